@@ -23,6 +23,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.google.OAuth;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -30,6 +31,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -66,8 +69,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                userPrefs.getAddressBookSaveDelayMillis(), userPrefs.getAddressBookMaxSaveDelayMillis(),
+                Platform::runLater);
 
         initLogging(config);
 
@@ -77,7 +82,8 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, oauth, executor);
+        logic = new LogicManager(model, oauth, executor, new UndoRedoStack(
+                userPrefs.getUndoHistoryMaxDepth(), userPrefs.getUndoHistoryMaxBytes()));
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -90,6 +96,27 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     * Unknown formats fall back to a plain xml file.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        String format = userPrefs.getAddressBookStorageFormat();
+        String filePath = userPrefs.getAddressBookFilePath();
+        boolean atomicSave = userPrefs.isAddressBookAtomicSave();
+        if (UserPrefs.STORAGE_FORMAT_JOURNAL.equals(format)) {
+            return new JournalAddressBookStorage(filePath, JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    atomicSave);
+        }
+        if (UserPrefs.STORAGE_FORMAT_BINARY.equals(format)) {
+            return new BinaryAddressBookStorage(filePath, atomicSave);
+        }
+        if (!UserPrefs.STORAGE_FORMAT_XML.equals(format)) {
+            logger.warning("Unknown data file format " + format + ". Will be using " + UserPrefs.STORAGE_FORMAT_XML);
+        }
+        return new XmlAddressBookStorage(filePath, atomicSave);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -201,6 +228,7 @@ public class MainApp extends Application {
 
     @Override
     public void stop() {
+        storage.flushAddressBook();
         storage.backupAddressBook(model.getAddressBook());
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
@@ -2,11 +2,16 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
 /**
@@ -48,4 +53,54 @@ public class CollectionUtil {
         }
         return true;
     }
+
+    /**
+     * Returns the {@code k} items of {@code items} with the highest {@code score}, from the highest to the lowest.
+     * Items with equal scores keep their order in {@code items}.
+     * Only {@code k} items are kept in a heap at any time, so this takes O(n log k) time instead of sorting all
+     * n items.
+     */
+    public static <T> List<T> topK(List<T> items, ToDoubleFunction<? super T> score, int k) {
+        requireAllNonNull(items, score);
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        // the head of the heap is the worst of the best items so far: the lowest score, then the latest position
+        Comparator<ScoredItem<T>> worstFirst = Comparator.<ScoredItem<T>>comparingDouble(item -> item.score)
+                .thenComparing(Comparator.<ScoredItem<T>>comparingInt(item -> item.position).reversed());
+        PriorityQueue<ScoredItem<T>> best = new PriorityQueue<>(Math.min(k, Math.max(1, items.size())), worstFirst);
+        int position = 0;
+        for (T item : items) {
+            ScoredItem<T> scoredItem = new ScoredItem<>(item, score.applyAsDouble(item), position++);
+            if (best.size() < k) {
+                best.add(scoredItem);
+            } else if (worstFirst.compare(scoredItem, best.peek()) > 0) {
+                best.poll();
+                best.add(scoredItem);
+            }
+        }
+
+        List<ScoredItem<T>> sorted = new ArrayList<>(best);
+        sorted.sort(worstFirst.reversed());
+        List<T> result = new ArrayList<>();
+        for (ScoredItem<T> scoredItem : sorted) {
+            result.add(scoredItem.item);
+        }
+        return result;
+    }
+
+    /**
+     * An item with its score and its position in the list it came from.
+     */
+    private static class ScoredItem<T> {
+        private final T item;
+        private final double score;
+        private final int position;
+
+        ScoredItem(T item, double score, int position) {
+            this.item = item;
+            this.score = score;
+            this.position = position;
+        }
+    }
 }
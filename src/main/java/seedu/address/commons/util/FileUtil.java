@@ -2,9 +2,17 @@ package seedu.address.commons.util;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,6 +88,68 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, atomically.
+     * The contents are written to a temporary file in the same directory and flushed to the disk, which then
+     * replaces {@code file} in a single rename. A crash at any point leaves {@code file} with either its old or its
+     * new contents, never a mix of both.
+     * Creates the file and its missing parent directories if they do not exist yet.
+     *
+     * @throws IOException if there was an error writing the contents or replacing the file.
+     */
+    public static void writeAtomically(File file, ContentWriter contentWriter) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        createDirs(directory);
+        File tempFile = File.createTempFile("." + file.getName() + "-", ".tmp", directory);
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile)) {
+                BufferedOutputStream buffered = new BufferedOutputStream(out);
+                contentWriter.writeTo(buffered);
+                buffered.flush();
+                out.getChannel().force(true);
+            }
+            replaceFile(tempFile.toPath(), file.toPath());
+            syncDirectory(directory.toPath());
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step, if the file system allows it.
+     */
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the disk, so that a crash cannot
+     * undo the move. Does nothing on platforms that do not allow directories to be opened or forced, such as
+     * Windows, since the file has already been replaced by then.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // the platform does not support syncing directories
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
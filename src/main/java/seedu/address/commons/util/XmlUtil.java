@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -12,9 +16,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is expensive, so one context is created per class and reused for every read and
+ * write. Marshallers and unmarshallers are cheaper but not thread-safe, so they are pooled per class and each one is
+ * only used by one thread at a time.
  */
 public class XmlUtil {
 
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,10 +48,17 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = getPool(unmarshallers, classToConvert);
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file));
+        try {
+            return ((T) um.unmarshal(file));
+        } finally {
+            pool.offer(um);
+        }
     }
 
     /**
@@ -60,11 +79,37 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Queue<Marshaller> pool = getPool(marshallers, data.getClass());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+
+        try {
+            m.marshal(data, file);
+        } finally {
+            pool.offer(m);
+        }
+    }
+
+    /**
+     * Returns the shared {@code JAXBContext} for {@code boundClass}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            context = JAXBContext.newInstance(boundClass);
+            JAXBContext existing = contexts.putIfAbsent(boundClass, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
 
-        m.marshal(data, file);
+    private static <P> Queue<P> getPool(ConcurrentMap<Class<?>, Queue<P>> pools, Class<?> boundClass) {
+        return pools.computeIfAbsent(boundClass, unused -> new ConcurrentLinkedQueue<>());
     }
 
 }
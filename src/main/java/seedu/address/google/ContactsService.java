@@ -0,0 +1,51 @@
+package seedu.address.google;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.api.services.people.v1.model.ListConnectionsResponse;
+import com.google.api.services.people.v1.model.Person;
+
+/**
+ * The Google contacts of the signed-in user, as used by the sync command.
+ * Lets the sync run against a stand-in for the People API, such as one kept in memory.
+ * Contacts are fetched and written in batches, as a sync can touch thousands of them.
+ */
+public interface ContactsService {
+
+    /**
+     * Returns the page of contacts after the page with {@code pageToken} as its next page token, or the first page
+     * if {@code pageToken} is null. The last page has no next page token, but has the sync token to list the
+     * contacts changed after the first page was listed with.
+     * If {@code syncToken} is not null, only the contacts changed since it was issued are listed, including the
+     * deleted ones, which are marked as deleted in their metadata.
+     *
+     * @throws ExpiredSyncTokenException if {@code syncToken} has expired.
+     */
+    ListConnectionsResponse listConnections(String pageToken, String syncToken) throws IOException;
+
+    /**
+     * Returns the contacts with {@code resourceNames}, in the same order. Contacts that could not be fetched are null
+     * in the returned list.
+     */
+    List<Person> getContacts(List<String> resourceNames) throws IOException;
+
+    /**
+     * Creates {@code contacts}, and returns them as created, with their resource names and metadata, in the same
+     * order. Contacts that could not be created are null in the returned list.
+     */
+    List<Person> createContacts(List<Person> contacts) throws IOException;
+
+    /**
+     * Replaces the fields listed in {@code updatePersonFields} of each contact with the resource name of one of
+     * {@code contacts} with those of the contact, and returns the contacts as updated, in the same order. Contacts
+     * that could not be updated are null in the returned list.
+     */
+    List<Person> updateContacts(List<Person> contacts, String updatePersonFields) throws IOException;
+
+    /**
+     * Deletes the contacts with {@code resourceNames}, and returns the resource names of the deleted contacts, in the
+     * same order. Contacts that could not be deleted are null in the returned list.
+     */
+    List<String> deleteContacts(List<String> resourceNames) throws IOException;
+}
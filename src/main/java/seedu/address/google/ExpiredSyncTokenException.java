@@ -0,0 +1,14 @@
+package seedu.address.google;
+
+import java.io.IOException;
+
+/**
+ * Signals that a sync token can no longer be used to list the contacts changed since it was issued, so the
+ * contacts have to be listed in full again.
+ */
+public class ExpiredSyncTokenException extends IOException {
+
+    public ExpiredSyncTokenException(Throwable cause) {
+        super("The sync token has expired", cause);
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.googleapis.services.json.AbstractGoogleJsonClientRequest;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.services.people.v1.PeopleService;
+import com.google.api.services.people.v1.model.ListConnectionsResponse;
+import com.google.api.services.people.v1.model.Person;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The Google contacts of the signed-in user, accessed through the People API.
+ * Contacts are fetched by resource name and written with Google batch requests, each carrying up to
+ * {@code MAX_BATCH_SIZE} requests, and the requests that fail because of rate limits or server errors are retried in
+ * later batches.
+ */
+public class PeopleContactsService implements ContactsService {
+
+    /** The number of contacts fetched per request */
+    public static final int PAGE_SIZE = 2000;
+    public static final String PERSON_FIELDS = "metadata,names,emailAddresses,addresses,phoneNumbers";
+    /** The number of requests sent per batch request, which is the most Google batch requests accept */
+    public static final int MAX_BATCH_SIZE = 1000;
+    /** The number of times a request is sent before giving up on it */
+    public static final int MAX_ATTEMPTS = 4;
+
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_GONE = 410;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_INTERNAL_SERVER_ERROR = 500;
+    private static final String EXPIRED_SYNC_TOKEN_REASON = "EXPIRED_SYNC_TOKEN";
+
+    private static final Logger logger = LogsCenter.getLogger(PeopleContactsService.class);
+
+    private final PeopleService client;
+
+    public PeopleContactsService(PeopleService client) {
+        requireNonNull(client);
+        this.client = client;
+    }
+
+    @Override
+    public ListConnectionsResponse listConnections(String pageToken, String syncToken) throws IOException {
+        try {
+            return client.people().connections().list("people/me")
+                    .setPageSize(PAGE_SIZE)
+                    .setPageToken(pageToken)
+                    .setPersonFields(PERSON_FIELDS)
+                    .setRequestSyncToken(true)
+                    .setSyncToken(syncToken)
+                    .execute();
+        } catch (GoogleJsonResponseException e) {
+            if (syncToken != null && isExpiredSyncToken(e)) {
+                throw new ExpiredSyncTokenException(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code e} is the error the People API returns for an expired sync token, which is either
+     * Gone, or a failed precondition that names the expired token.
+     */
+    private static boolean isExpiredSyncToken(GoogleJsonResponseException e) {
+        return e.getStatusCode() == HTTP_GONE
+                || (e.getStatusCode() == HTTP_BAD_REQUEST && e.getContent() != null
+                && e.getContent().contains(EXPIRED_SYNC_TOKEN_REASON));
+    }
+
+    @Override
+    public List<Person> getContacts(List<String> resourceNames) throws IOException {
+        List<PeopleService.People.Get> requests = new ArrayList<>();
+        for (String resourceName : resourceNames) {
+            requests.add(client.people().get(resourceName).setPersonFields(PERSON_FIELDS));
+        }
+        List<Person> fetchedContacts = new ArrayList<>(Collections.nCopies(resourceNames.size(), null));
+        executeInBatches(requests, fetchedContacts::set);
+        return fetchedContacts;
+    }
+
+    @Override
+    public List<Person> createContacts(List<Person> contacts) throws IOException {
+        List<PeopleService.People.CreateContact> requests = new ArrayList<>();
+        for (Person contact : contacts) {
+            requests.add(client.people().createContact(contact));
+        }
+        List<Person> createdContacts = new ArrayList<>(Collections.nCopies(contacts.size(), null));
+        executeInBatches(requests, createdContacts::set);
+        return createdContacts;
+    }
+
+    @Override
+    public List<Person> updateContacts(List<Person> contacts, String updatePersonFields) throws IOException {
+        List<PeopleService.People.UpdateContact> requests = new ArrayList<>();
+        for (Person contact : contacts) {
+            requests.add(client.people().updateContact(contact.getResourceName(), contact)
+                    .setUpdatePersonFields(updatePersonFields));
+        }
+        List<Person> updatedContacts = new ArrayList<>(Collections.nCopies(contacts.size(), null));
+        executeInBatches(requests, updatedContacts::set);
+        return updatedContacts;
+    }
+
+    @Override
+    public List<String> deleteContacts(List<String> resourceNames) throws IOException {
+        List<PeopleService.People.DeleteContact> requests = new ArrayList<>();
+        for (String resourceName : resourceNames) {
+            requests.add(client.people().deleteContact(resourceName));
+        }
+        List<String> deletedResourceNames = new ArrayList<>(Collections.nCopies(resourceNames.size(), null));
+        executeInBatches(requests, (i, unused) -> deletedResourceNames.set(i, resourceNames.get(i)));
+        return deletedResourceNames;
+    }
+
+    /**
+     * Executes {@code requests} in batches of at most {@code MAX_BATCH_SIZE}, passing the index and the result of each
+     * request that succeeds to {@code onResult}. Requests that fail because of rate limits or server errors are
+     * retried, after a delay that doubles with every attempt, until they have been sent {@code MAX_ATTEMPTS} times.
+     * Requests that still fail are logged and left out.
+     *
+     * @throws IOException if a batch request itself fails.
+     */
+    private <T> void executeInBatches(List<? extends AbstractGoogleJsonClientRequest<T>> requests,
+                                      BiConsumer<Integer, T> onResult) throws IOException {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            pending.add(i);
+        }
+
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                waitBeforeRetry(INITIAL_RETRY_DELAY_MILLIS << (attempt - 2));
+            }
+            boolean isLastAttempt = attempt == MAX_ATTEMPTS;
+            List<Integer> failed = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE) {
+                BatchRequest batch = client.batch().setBatchUrl(new GenericUrl(client.getRootUrl() + "batch"));
+                for (int i : pending.subList(from, Math.min(from + MAX_BATCH_SIZE, pending.size()))) {
+                    requests.get(i).queue(batch, new JsonBatchCallback<T>() {
+                        @Override
+                        public void onSuccess(T result, HttpHeaders responseHeaders) {
+                            onResult.accept(i, result);
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                            if (!isLastAttempt && isRetryable(e)) {
+                                failed.add(i);
+                            } else {
+                                logger.warning("Contact request failed: " + e.getMessage());
+                            }
+                        }
+                    });
+                }
+                batch.execute();
+            }
+            pending = failed;
+        }
+    }
+
+    /**
+     * Returns true if the request that failed with {@code e} may succeed if it is sent again.
+     */
+    private static boolean isRetryable(GoogleJsonError e) {
+        return e.getCode() == HTTP_TOO_MANY_REQUESTS || e.getCode() >= HTTP_INTERNAL_SERVER_ERROR;
+    }
+
+    private static void waitBeforeRetry(long delayMillis) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry contact requests");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.KeywordsPredicate;
+import seedu.address.model.search.SearchField;
+
+/**
+ * A least recently used cache of the persons in the address book that find commands match, keyed by the
+ * normalised keywords of the commands.
+ *
+ * Cached results are kept in step with the person list of the address book instead of being dropped whenever it
+ * changes: the persons that a change of the list removes leave the results they were in, and the persons it adds
+ * join the results whose keywords match them, so a change only costs as much as the persons it touched.
+ */
+public class FindResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Logger logger = LogsCenter.getLogger(FindResultCache.class);
+
+    private final Map<Map<SearchField, Set<String>>, CachedResult> results;
+    // held so that the listener on it lives as long as this cache
+    private final ObservableList<ReadOnlyPerson> persons;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that holds the results of at most {@code capacity} different finds of
+     * {@code persons}, the person list of the address book.
+     */
+    public FindResultCache(int capacity, ObservableList<ReadOnlyPerson> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.persons.addListener(this::update);
+        this.results = new LinkedHashMap<Map<SearchField, Set<String>>, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Map<SearchField, Set<String>>, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the persons of the person list matched by any of {@code predicates}, computing them with
+     * {@code computeMatches} if they are not cached. Returns an empty {@code Optional} without computing anything if
+     * the predicates cannot be cached, which is when any of them is not a {@code KeywordsPredicate}.
+     * The returned set compares persons by identity, and is only accurate until the person list next changes.
+     */
+    public synchronized Optional<Set<ReadOnlyPerson>> getMatches(List<Predicate<ReadOnlyPerson>> predicates,
+            Supplier<Set<ReadOnlyPerson>> computeMatches) {
+        requireAllNonNull(predicates, computeMatches);
+        Optional<Map<SearchField, Set<String>>> key = toKey(predicates);
+        if (!key.isPresent()) {
+            return Optional.empty();
+        }
+
+        CachedResult result = results.get(key.get());
+        if (result != null) {
+            hitCount++;
+        } else {
+            missCount++;
+            result = new CachedResult(getKeywordsPredicates(predicates), computeMatches.get());
+            results.put(key.get(), result);
+        }
+        logger.fine("Find result cache: " + this);
+        return Optional.of(Collections.unmodifiableSet(result.matches));
+    }
+
+    /**
+     * Brings the cached results in step with {@code change} of the person list, reading only the persons it
+     * removed and added. Reordering the list does not change any result.
+     */
+    private synchronized void update(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        if (results.isEmpty()) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (CachedResult result : results.values()) {
+                result.update(change.getRemoved(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of finds whose results were in the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of finds whose results had to be computed.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the keywords of {@code predicates} by field, lowercase and without duplicates or order, since none of
+     * these affect which persons are matched. Returns an empty {@code Optional} if any of the predicates, other than
+     * {@code FindCommand.FALSE}, is not a {@code KeywordsPredicate}.
+     */
+    static Optional<Map<SearchField, Set<String>>> toKey(List<Predicate<ReadOnlyPerson>> predicates) {
+        Map<SearchField, Set<String>> key = new EnumMap<>(SearchField.class);
+        for (Predicate<ReadOnlyPerson> predicate : predicates) {
+            if (predicate == FindCommand.FALSE) {
+                continue;
+            }
+            if (!(predicate instanceof KeywordsPredicate)) {
+                return Optional.empty();
+            }
+            KeywordsPredicate keywordsPredicate = (KeywordsPredicate) predicate;
+            Set<String> keywords = key.computeIfAbsent(keywordsPredicate.getField(), unused -> new TreeSet<>());
+            for (String keyword : keywordsPredicate.getKeywords()) {
+                keywords.add(keyword.toLowerCase());
+            }
+        }
+        return Optional.of(Collections.unmodifiableMap(key));
+    }
+
+    private static List<KeywordsPredicate> getKeywordsPredicates(List<Predicate<ReadOnlyPerson>> predicates) {
+        List<KeywordsPredicate> keywordsPredicates = new ArrayList<>();
+        for (Predicate<ReadOnlyPerson> predicate : predicates) {
+            if (predicate instanceof KeywordsPredicate) {
+                keywordsPredicates.add((KeywordsPredicate) predicate);
+            }
+        }
+        return keywordsPredicates;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return results.size() + " results, " + hitCount + " hits, " + missCount + " misses";
+    }
+
+    /**
+     * The persons matched by any of some keywords predicates.
+     */
+    private static class CachedResult {
+        private final List<KeywordsPredicate> predicates;
+        private final Set<ReadOnlyPerson> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        CachedResult(List<KeywordsPredicate> predicates, Set<ReadOnlyPerson> matches) {
+            this.predicates = predicates;
+            this.matches.addAll(matches);
+        }
+
+        /**
+         * Removes the {@code removed} persons from the matches, and adds the {@code added} persons that match.
+         */
+        void update(List<? extends ReadOnlyPerson> removed, List<? extends ReadOnlyPerson> added) {
+            // removed one by one, as removeAll could compare the persons by equality instead of identity
+            removed.forEach(matches::remove);
+            for (ReadOnlyPerson person : added) {
+                if (predicates.stream().anyMatch(predicate -> predicate.test(person))) {
+                    matches.add(person);
+                }
+            }
+        }
+    }
+}
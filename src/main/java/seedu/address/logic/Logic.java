@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,6 +22,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single command that is undone as a whole, and returns the result.
+     * Nothing is executed if any of the commands cannot be parsed or cannot be undone, and the address book is left
+     * unchanged if any of them fails.
+     * @param commandTexts The commands as they would be entered by the user, such as the lines of an import script.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException If an error occurs while parsing any command.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<ReadOnlyPerson> getFilteredPersonList();
 
@@ -27,4 +40,10 @@ public interface Logic {
     ListElementPointer getHistorySnapshot();
 
     ObservableList<Meeting> getFilteredMeetingList();
+
+    /** Returns the number of finds whose results were in the find result cache */
+    long getFindResultCacheHitCount();
+
+    /** Returns the number of finds whose results had to be computed */
+    long getFindResultCacheMissCount();
 }
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
@@ -7,8 +9,10 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.google.OAuth;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.UndoableCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -20,6 +24,9 @@ import seedu.address.model.person.ReadOnlyPerson;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    public static final String MESSAGE_INVALID_BATCH_COMMAND = "Command %1$d of the batch: %2$s";
+    public static final String MESSAGE_BATCH_COMMAND_NOT_UNDOABLE = "it cannot be undone, so it cannot be batched";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -28,33 +35,66 @@ public class LogicManager extends ComponentManager implements Logic {
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
     private final ExecutorService executor;
+    private final FindResultCache findResultCache;
 
     public LogicManager(Model model, OAuth oauth, ExecutorService executor) {
+        this(model, oauth, executor, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, OAuth oauth, ExecutorService executor, UndoRedoStack undoRedoStack) {
         this.model = model;
         this.history = new CommandHistory();
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = undoRedoStack;
         this.oauth = oauth;
         this.executor = executor;
-
+        this.findResultCache = new FindResultCache(FindResultCache.DEFAULT_CAPACITY,
+                model.getAddressBook().getPersonList());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
-            Command command = addressBookParser.parseCommand(commandText);
-            command.setData(model, history, undoRedoStack);
-            command.setOAuth(oauth);
-            command.setExecutor(executor);
-            CommandResult result = command.execute();
-            undoRedoStack.push(command);
-            return result;
+            return execute(addressBookParser.parseCommand(commandText));
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH][" + commandTexts.size() + " commands]");
+        List<UndoableCommand> commands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(commandTexts.get(i));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1, pe.getMessage()), pe);
+            }
+            if (!(command instanceof UndoableCommand)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1,
+                        MESSAGE_BATCH_COMMAND_NOT_UNDOABLE));
+            }
+            commands.add((UndoableCommand) command);
+        }
+        return execute(new BatchCommand(commands));
+    }
+
+    /**
+     * Executes {@code command} and records it for undoing.
+     */
+    private CommandResult execute(Command command) throws CommandException {
+        command.setData(model, history, undoRedoStack);
+        command.setOAuth(oauth);
+        command.setExecutor(executor);
+        command.setFindResultCache(findResultCache);
+        CommandResult result = command.execute();
+        undoRedoStack.push(command);
+        return result;
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -69,4 +109,14 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public long getFindResultCacheHitCount() {
+        return findResultCache.getHitCount();
+    }
+
+    @Override
+    public long getFindResultCacheMissCount() {
+        return findResultCache.getMissCount();
+    }
 }
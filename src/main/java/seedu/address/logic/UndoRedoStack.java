@@ -1,23 +1,48 @@
 package seedu.address.logic;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EmptyStackException;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.UserPrefs;
 
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ *
+ * The undo-stack is bounded by a maximum number of commands and by a budget on the memory kept alive by the
+ * commands for undoing, beyond which the oldest commands are evicted.
  */
 public class UndoRedoStack {
-    private Stack<UndoableCommand> undoStack;
-    private Stack<UndoableCommand> redoStack;
+    // the top of each stack is its last element, and the oldest command to undo is the first
+    private Deque<UndoableCommand> undoStack;
+    private Deque<UndoableCommand> redoStack;
+    private final int maxDepth;
+    private final long maxBytes;
+    // the total undo footprint of the commands in undoStack
+    private long undoStackBytes;
 
     public UndoRedoStack() {
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        this(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+    }
+
+    /**
+     * Creates an {@code UndoRedoStack} that keeps at most {@code maxDepth} commands to undo, and evicts the oldest
+     * commands once they keep more than {@code maxBytes} alive. The most recent command is never evicted.
+     */
+    public UndoRedoStack(int maxDepth, long maxBytes) {
+        if (maxDepth < 1 || maxBytes < 0) {
+            throw new IllegalArgumentException("Undo history must hold at least one command");
+        }
+        undoStack = new ArrayDeque<>();
+        redoStack = new ArrayDeque<>();
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
     }
 
     /**
@@ -33,15 +58,43 @@ public class UndoRedoStack {
             return;
         }
 
-        undoStack.add((UndoableCommand) command);
+        pushUndo((UndoableCommand) command);
+        evictOldestCommands();
+    }
+
+    private void pushUndo(UndoableCommand command) {
+        undoStack.addLast(command);
+        undoStackBytes += command.getUndoFootprint();
+    }
+
+    /**
+     * Removes the oldest commands from the undo-stack until it is within {@code maxDepth} and {@code maxBytes}.
+     */
+    private void evictOldestCommands() {
+        while (undoStack.size() > maxDepth || (undoStackBytes > maxBytes && undoStack.size() > 1)) {
+            undoStackBytes -= undoStack.removeFirst().getUndoFootprint();
+        }
+    }
+
+    /**
+     * Removes all commands from the undo-stack and the redo-stack.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        undoStackBytes = 0;
     }
 
     /**
      * Pops and returns the next {@code UndoableCommand} to be undone in the stack.
      */
     public UndoableCommand popUndo() {
-        UndoableCommand toUndo = undoStack.pop();
-        redoStack.push(toUndo);
+        if (undoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoableCommand toUndo = undoStack.removeLast();
+        undoStackBytes -= toUndo.getUndoFootprint();
+        redoStack.addLast(toUndo);
         return toUndo;
     }
 
@@ -49,8 +102,11 @@ public class UndoRedoStack {
      * Pops and returns the next {@code UndoableCommand} to be redone in the stack.
      */
     public UndoableCommand popRedo() {
-        UndoableCommand toRedo = redoStack.pop();
-        undoStack.push(toRedo);
+        if (redoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoableCommand toRedo = redoStack.removeLast();
+        pushUndo(toRedo);
         return toRedo;
     }
 
@@ -58,14 +114,14 @@ public class UndoRedoStack {
      * Returns true if there are more commands that can be undone.
      */
     public boolean canUndo() {
-        return !undoStack.empty();
+        return !undoStack.isEmpty();
     }
 
     /**
      * Returns true if there are more commands that can be redone.
      */
     public boolean canRedo() {
-        return !redoStack.empty();
+        return !redoStack.isEmpty();
     }
 
     @Override
@@ -83,7 +139,7 @@ public class UndoRedoStack {
         UndoRedoStack stack = (UndoRedoStack) other;
 
         // state check
-        return undoStack.equals(stack.undoStack)
-                && redoStack.equals(stack.redoStack);
+        return Arrays.equals(undoStack.toArray(), stack.undoStack.toArray())
+                && Arrays.equals(redoStack.toArray(), stack.redoStack.toArray());
     }
 }
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a batch of commands as a single command, such as the commands of an import script.
+ *
+ * The batch is undone and redone as a whole, and the address book is only reported as changed, and so saved, once
+ * at the end of the batch. If any command of the batch fails, the address book is restored to its state before
+ * the batch.
+ */
+public class BatchCommand extends UndoableCommand {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands.";
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Command %1$d of the batch failed, so none of the batch was executed: %2$s";
+
+    private final List<UndoableCommand> commands;
+
+    /**
+     * Creates a BatchCommand that executes {@code commands} in order.
+     */
+    public BatchCommand(List<UndoableCommand> commands) {
+        requireNonNull(commands);
+        this.commands = Collections.unmodifiableList(new ArrayList<>(commands));
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        model.startBatchChanges();
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                UndoableCommand command = commands.get(i);
+                command.setData(model, history, undoRedoStack);
+                command.setOAuth(oauth);
+                command.setExecutor(executor);
+                command.setFindResultCache(findResultCache);
+                try {
+                    command.executeUndoableCommand();
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, ce.getMessage()));
+                }
+            }
+            isCompleted = true;
+        } finally {
+            // a command that fails in any way, not only with a CommandException, undoes the whole batch
+            if (isCompleted) {
+                model.endBatchChanges();
+            } else {
+                model.rollBackBatchChanges();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
+        this.model = model;
+        this.history = history;
+        this.undoRedoStack = undoRedoStack;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands));
+    }
+}
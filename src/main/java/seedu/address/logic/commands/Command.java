@@ -8,6 +8,7 @@ import com.google.api.services.people.v1.PeopleService;
 import seedu.address.commons.core.Messages;
 import seedu.address.google.OAuth;
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.FindResultCache;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -24,6 +25,7 @@ public abstract class Command {
 
     protected OAuth oauth;
     protected ExecutorService executor;
+    protected FindResultCache findResultCache;
 
     //@@author
     /**
@@ -62,4 +64,8 @@ public abstract class Command {
         this.executor = executor;
     }
 
+    public void setFindResultCache(FindResultCache findResultCache) {
+        this.findResultCache = findResultCache;
+    }
+
 }
@@ -5,13 +5,22 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.meeting.MeetingContainPersonPredicate;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.KeywordsPredicate;
+import seedu.address.model.search.IndexedKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose specified fields contains any of the argument keywords.
@@ -30,33 +39,58 @@ public class FindCommand extends Command {
             + "[" + PREFIX_PHONE + "KEYWORD...] "
             + "[" + PREFIX_EMAIL + "KEYWORD...] "
             + "[" + PREFIX_ADDRESS + "KEYWORD...] "
-            + "[" + PREFIX_TAG + "KEYWORD...]\n"
+            + "[" + PREFIX_TAG + "KEYWORD...] "
+            + "[" + PREFIX_RANK + "NUMBER_OF_RESULTS]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "alice bob charlie "
             + PREFIX_PHONE + "98765432 93250124 "
             + PREFIX_EMAIL + "johnd@example.com "
             + PREFIX_ADDRESS + "Clementi Ave "
             + PREFIX_TAG + "friends owesMoney";
+    public static final String MESSAGE_INVALID_RESULT_LIMIT = "The number of results must be a positive integer.";
 
     public static final Predicate<ReadOnlyPerson> FALSE = (unused -> false);
+    // the result limit of a find that lists every match in address book order
+    public static final int UNRANKED = 0;
 
     private final ArrayList<Predicate<ReadOnlyPerson>> predicates;
+    private final int resultLimit;
 
     public FindCommand(ArrayList<Predicate<ReadOnlyPerson>> predicates) {
+        this(predicates, UNRANKED);
+    }
+
+    /**
+     * Creates a find that lists only the {@code resultLimit} most relevant matches, most relevant first,
+     * or every match in address book order if {@code resultLimit} is {@code UNRANKED}.
+     */
+    public FindCommand(ArrayList<Predicate<ReadOnlyPerson>> predicates, int resultLimit) {
         this.predicates = predicates;
+        this.resultLimit = resultLimit;
     }
 
     @Override
     public CommandResult execute() {
         requireNonNull(model);
 
-        Predicate<ReadOnlyPerson> predicate = combinePredicates();
+        List<IndexedKeywordsPredicate> indexedPredicates = new ArrayList<>();
+        Predicate<ReadOnlyPerson> predicate = combinePredicates(indexedPredicates);
 
-        Predicate<? super ReadOnlyPerson>  currentPredicate = model.getPersonListPredicate();
-        if (currentPredicate == null) {
-            model.updateFilteredPersonList(predicate);
+        Optional<Set<ReadOnlyPerson>> cachedMatches = (findResultCache == null)
+                ? Optional.empty()
+                : findResultCache.getMatches(predicates, () -> collectMatches(indexedPredicates));
+        if (cachedMatches.isPresent()) {
+            CachedMatchesPredicate cachedPredicate = new CachedMatchesPredicate(cachedMatches.get(), predicate);
+            model.refineFilteredPersonList(cachedPredicate);
+            cachedPredicate.discardMatches();
         } else {
-            model.updateFilteredPersonList(predicate.and(currentPredicate));
+            model.refineFilteredPersonList(predicate);
+        }
+        if (resultLimit != UNRANKED) {
+            showMostRelevant(indexedPredicates);
+        } else if (indexedPredicates.stream().anyMatch(IndexedKeywordsPredicate::hasFuzzyKeywords)) {
+            model.updateFilteredPersonListOrder(
+                    Comparator.comparingInt(person -> getClosestDistance(indexedPredicates, person)));
         }
         model.updateFilteredMeetingList(new MeetingContainPersonPredicate(model.getFilteredPersonList()));
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
@@ -64,21 +98,95 @@ public class FindCommand extends Command {
 
     /**
      * combines the list of predicates into a single predicate for execution
-     * by taking OR operations
+     * by taking OR operations. Keyword predicates are answered from the model's search index, and the
+     * predicates used for them are added to {@code indexedPredicates}.
      */
-    private Predicate<ReadOnlyPerson> combinePredicates() {
+    private Predicate<ReadOnlyPerson> combinePredicates(List<IndexedKeywordsPredicate> indexedPredicates) {
         Predicate<ReadOnlyPerson> combinedPredicate = FALSE;
-        for (Predicate predicate : predicates) {
-            combinedPredicate = combinedPredicate.or(predicate);
+        for (Predicate<ReadOnlyPerson> predicate : predicates) {
+            if (predicate == FALSE) {
+                continue;
+            }
+            if (predicate instanceof KeywordsPredicate) {
+                IndexedKeywordsPredicate indexedPredicate = model.getIndexedPredicate((KeywordsPredicate) predicate);
+                indexedPredicates.add(indexedPredicate);
+                combinedPredicate = combinedPredicate.or(indexedPredicate);
+            } else {
+                combinedPredicate = combinedPredicate.or(predicate);
+            }
         }
         return combinedPredicate;
     }
+
+    /**
+     * Returns the persons matched by any of {@code indexedPredicates}, compared by identity.
+     */
+    private static Set<ReadOnlyPerson> collectMatches(List<IndexedKeywordsPredicate> indexedPredicates) {
+        Set<ReadOnlyPerson> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IndexedKeywordsPredicate predicate : indexedPredicates) {
+            matches.addAll(predicate.getMatchedPersons());
+        }
+        return matches;
+    }
+
+    /**
+     * Narrows the filtered person list down to the {@code resultLimit} persons with the highest total relevance
+     * to {@code indexedPredicates}, ordered from the most relevant. The model chooses them again when the address
+     * book changes, and the scores are looked up in the current search index, so edited persons are ranked anew.
+     */
+    private void showMostRelevant(List<IndexedKeywordsPredicate> indexedPredicates) {
+        model.limitFilteredPersonList(person -> getTotalScore(indexedPredicates, person), resultLimit);
+    }
+
+    private static double getTotalScore(List<IndexedKeywordsPredicate> indexedPredicates, ReadOnlyPerson person) {
+        double score = 0;
+        for (IndexedKeywordsPredicate predicate : indexedPredicates) {
+            score += predicate.getScore(person);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the smallest edit distance between {@code person} and a fuzzy keyword matching it, which is 0 if it
+     * is matched by a keyword exactly.
+     */
+    private static int getClosestDistance(List<IndexedKeywordsPredicate> indexedPredicates, ReadOnlyPerson person) {
+        int distance = Integer.MAX_VALUE;
+        for (IndexedKeywordsPredicate predicate : indexedPredicates) {
+            distance = Math.min(distance, predicate.getDistance(person));
+        }
+        return distance;
+    }
     //@@author
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && this.predicates.equals(((FindCommand) other).predicates)); // state check
+                && this.predicates.equals(((FindCommand) other).predicates)
+                && this.resultLimit == ((FindCommand) other).resultLimit); // state check
+    }
+
+    /**
+     * A predicate that answers from the cached matches of a find until they are discarded, and from the predicate
+     * of the find afterwards, such as for persons added to the address book later.
+     */
+    private static class CachedMatchesPredicate implements Predicate<ReadOnlyPerson> {
+        private final Predicate<ReadOnlyPerson> predicate;
+        private Set<ReadOnlyPerson> matches;
+
+        CachedMatchesPredicate(Set<ReadOnlyPerson> matches, Predicate<ReadOnlyPerson> predicate) {
+            this.matches = matches;
+            this.predicate = predicate;
+        }
+
+        void discardMatches() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            return (matches != null) ? matches.contains(person) : predicate.test(person);
+        }
     }
 }
@@ -25,7 +25,12 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popRedo().redo();
+        try {
+            undoRedoStack.popRedo().redo();
+        } catch (CommandException ce) {
+            undoRedoStack.clear();
+            throw ce;
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -13,7 +13,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.logging.Logger;
 
-import com.google.api.services.people.v1.PeopleService;
 import com.google.api.services.people.v1.model.Address;
 import com.google.api.services.people.v1.model.EmailAddress;
 import com.google.api.services.people.v1.model.ListConnectionsResponse;
@@ -24,6 +23,10 @@ import com.google.api.services.people.v1.model.Source;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.google.ContactsService;
+import seedu.address.google.ExpiredSyncTokenException;
+import seedu.address.google.PeopleContactsService;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.Email;
@@ -33,11 +36,12 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 
 //@@author derrickchua
 /**
- * Adds a person to the address book.
+ * Syncs the address book with Google Contacts.
  */
 public class SyncCommand extends Command {
 
@@ -50,235 +54,402 @@ public class SyncCommand extends Command {
     public static final String MESSAGE_FAILURE = "Please login first";
     public static final String MESSAGE_FAILURE_INTERNET =
             "Unable to connect to the Internet. Please check your internet and firewall settings";
+    public static final String MESSAGE_FAILURE_SYNC = "Unable to sync with Google Contacts: %1$s";
 
-    protected static PeopleService client;
+    public static final String SYNCED_IDS_FILE = "data/syncedIDs.dat";
+    public static final String SYNC_CHECKPOINT_FILE = "data/syncCheckpoint.dat";
+
+    private static final String UPDATE_PERSON_FIELDS = "names,emailAddresses,addresses,phoneNumbers";
 
     private static HashSet<String> syncedIDs;
 
     private static final Logger logger = LogsCenter.getLogger(SyncCommand.class);
 
+    private ContactsService contacts;
+
     private HashMap<String, ReadOnlyPerson> hashId;
 
     private HashMap<seedu.address.model.person.Person, ReadOnlyPerson> hashAbc;
 
-    private List<Person> connections;
+    private HashSet<String> seenIds;
+
+    private String nextSyncToken;
+
+    private List<String> pendingDeletes;
+
+    private List<ReadOnlyPerson> pendingPushes;
+
+    private List<Person> pendingPushContacts;
 
-    private HashMap<String, Person> hashGoogleId;
-    private HashMap<seedu.address.model.person.Person, Person> hashGoogle;
+    private HashSet<String> unpushedIds;
 
+    private Instant latestUpdateTime;
 
     @Override
     public CommandResult execute() throws CommandException {
 
-        if (clientFuture == null || !clientFuture.isDone()) {
-            throw new CommandException(MESSAGE_FAILURE);
-        } else {
+        if (contacts == null) {
+            if (clientFuture == null || !clientFuture.isDone()) {
+                throw new CommandException(MESSAGE_FAILURE);
+            }
+            contacts = new PeopleContactsService(clientFuture.join());
+        }
 
-            syncedIDs =  (loadStatus() == null) ? new HashSet<String>() : (HashSet) loadStatus();
+        syncedIDs =  (loadStatus() == null) ? new HashSet<String>() : (HashSet) loadStatus();
+        Object checkpoint = loadStatus(SYNC_CHECKPOINT_FILE);
 
-            try {
-                initialise();
+        // the address book is only saved once, after all contacts are synced
+        model.startBatchChanges();
+        try {
+            initialise();
+            latestUpdateTime = (checkpoint instanceof SyncCheckpoint) ? ((SyncCheckpoint) checkpoint).syncTime : null;
+
+            if (!(checkpoint instanceof SyncCheckpoint) || !syncChangedContacts((SyncCheckpoint) checkpoint)) {
+                syncAllContacts();
+            }
+
+            exportContacts();
+
+            saveStatus(syncedIDs);
+            saveStatus(nextSyncToken == null ? null : new SyncCheckpoint(nextSyncToken,
+                    latestUpdateTime == null ? Instant.EPOCH : latestUpdateTime, unpushedIds), SYNC_CHECKPOINT_FILE);
+        } catch (java.net.UnknownHostException e) {
+            throw new CommandException(MESSAGE_FAILURE_INTERNET);
+        } catch (Exception e) {
+            logger.warning("Sync with Google Contacts failed: " + StringUtil.getDetails(e));
+            throw new CommandException(String.format(MESSAGE_FAILURE_SYNC, e.getMessage()));
+        } finally {
+            model.endBatchChanges();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS));
+    }
+
+    /** Preprocessing for future methods (Initialises hashmaps for faster future access)
+     *
+     */
+    private void initialise() {
+        List<ReadOnlyPerson> personList =  model.getAddressBook().getPersonList();
+        List<ReadOnlyPerson> unlinkedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : personList) {
+            if (person.getId().getValue().equals("")) {
+                unlinkedPersons.add(person);
+            }
+        }
+        hashId = constructHashId(personList);
+        hashAbc = constructHashAbc(unlinkedPersons);
+        seenIds = new HashSet<String>();
+        pendingDeletes = new ArrayList<>();
+        pendingPushes = new ArrayList<>();
+        pendingPushContacts = new ArrayList<>();
+        unpushedIds = new HashSet<String>();
+    }
 
-                checkContacts();
-                updateContacts();
+    /** Syncs every Google Contact, and deletes the linked local contacts that are no longer in Google Contacts
+     *
+     * @throws Exception
+     */
+    private void syncAllContacts() throws Exception {
+        syncConnections(null);
+        checkContacts();
+    }
 
-                exportContacts();
+    /** Syncs only the Google Contacts changed since the last sync, and pushes the local contacts changed since
+     * then. Returns false without syncing anything if the sync token of the last sync has expired
+     *
+     * @param checkpoint
+     * @throws Exception
+     */
+    private boolean syncChangedContacts(SyncCheckpoint checkpoint) throws Exception {
+        try {
+            syncConnections(checkpoint.syncToken);
+        } catch (ExpiredSyncTokenException e) {
+            logger.info("Sync token expired, syncing all contacts");
+            initialise();
+            return false;
+        }
+        syncLocalChanges(checkpoint.syncTime, checkpoint.unpushedIds);
+        return true;
+    }
 
-                if (connections != null) {
-                    importContacts();
+    /** Fetches the Google Contacts page by page, or only those changed since {@code syncToken} was issued if it is
+     * not null, and syncs the contacts of each page as soon as it arrives, so that only one page is held in memory
+     * at a time. The changes to Google Contacts that each page needs are written together once the page is synced
+     *
+     * @param syncToken
+     * @throws Exception
+     */
+    private void syncConnections(String syncToken) throws Exception {
+        String pageToken = null;
+        do {
+            ListConnectionsResponse response = contacts.listConnections(pageToken, syncToken);
+            if (response.getConnections() != null) {
+                for (Person person : response.getConnections()) {
+                    if (isDeleted(person)) {
+                        removeDeletedContact(person);
+                    } else {
+                        syncConnection(person);
+                    }
                 }
+            }
+            writePendingChanges();
+            pageToken = response.getNextPageToken();
+            nextSyncToken = response.getNextSyncToken();
+        } while (pageToken != null);
+    }
 
-                saveStatus(syncedIDs);
-            } catch (java.net.UnknownHostException e) {
-                throw new CommandException(MESSAGE_FAILURE_INTERNET);
-            } catch (Exception e) {
-                e.printStackTrace();
+    /** Deletes the local contact linked to a Google Contact that has been deleted
+     *
+     * @param person
+     * @throws PersonNotFoundException
+     */
+    private void removeDeletedContact(Person person) throws PersonNotFoundException {
+        String id = person.getResourceName();
+        seenIds.add(id);
+        syncedIDs.remove(id);
+        ReadOnlyPerson aPerson = hashId.remove(id);
+        if (aPerson != null) {
+            logger.info("Deleting local contact");
+            model.deletePerson(aPerson);
+        }
+    }
+
+    /** Pushes the changes made to linked local contacts since {@code lastSyncTime}, and those that could not be
+     * pushed by the last sync, to Google Contacts, for the contacts that were not already synced because their Google
+     * Contacts changed too
+     *
+     * @param lastSyncTime
+     * @param lastUnpushedIds
+     * @throws Exception
+     */
+    private void syncLocalChanges(Instant lastSyncTime, HashSet<String> lastUnpushedIds) throws Exception {
+        for (String id : syncedIDs) {
+            if (!hashId.containsKey(id) && !seenIds.contains(id)) {
+                // Contact has been deleted locally. We update this remotely
+                pendingDeletes.add(id);
             }
         }
-        return new CommandResult(String.format(MESSAGE_SUCCESS));
+
+        List<ReadOnlyPerson> changedPersons = new ArrayList<>();
+        List<String> changedIds = new ArrayList<>();
+        for (ReadOnlyPerson aPerson : hashId.values()) {
+            String id = aPerson.getId().getValue();
+            if (!id.equals("") && !seenIds.contains(id) && (lastUnpushedIds.contains(id)
+                    || Instant.parse(aPerson.getLastUpdated().getValue()).isAfter(lastSyncTime))) {
+                changedPersons.add(aPerson);
+                changedIds.add(id);
+            }
+        }
+
+        List<Person> changedContacts = contacts.getContacts(changedIds);
+        for (int i = 0; i < changedPersons.size(); i++) {
+            if (changedContacts.get(i) != null) {
+                recordUpdateTime(changedContacts.get(i));
+                updateContact(changedPersons.get(i), changedContacts.get(i));
+            } else {
+                unpushedIds.add(changedIds.get(i));
+            }
+        }
+        writePendingChanges();
     }
 
-    /** Preprocessing for future methods (Initialises hashmaps for faster future access)
+    /** Writes the deletions and updates queued for Google Contacts in batches, and records the ones that succeed.
+     * Those that fail are left for the next sync, which pushes the failed updates again
      *
      * @throws Exception
      */
-    private void initialise() throws Exception {
-        List<ReadOnlyPerson> personList =  model.getAddressBook().getPersonList();;
-        client = clientFuture.get();
-        ListConnectionsResponse response = client.people().connections().list("people/me")
-                .setPageSize(2000)
-                .setPersonFields("metadata,names,emailAddresses,addresses,phoneNumbers")
-                .execute();
-        connections = response.getConnections();
-        hashId = constructHashId(personList);
-        hashAbc = constructHashAbc(personList);
+    private void writePendingChanges() throws Exception {
+        if (!pendingDeletes.isEmpty()) {
+            for (String id : contacts.deleteContacts(pendingDeletes)) {
+                if (id != null) {
+                    syncedIDs.remove(id);
+                    logger.info("Removing id: " + id);
+                }
+            }
+            pendingDeletes.clear();
+        }
+
+        if (!pendingPushes.isEmpty()) {
+            List<Person> updatedContacts = contacts.updateContacts(pendingPushContacts, UPDATE_PERSON_FIELDS);
+            for (int i = 0; i < pendingPushes.size(); i++) {
+                if (updatedContacts.get(i) != null) {
+                    recordUpdateTime(updatedContacts.get(i));
+                    syncUpdateTime(pendingPushes.get(i), updatedContacts.get(i));
+                } else {
+                    unpushedIds.add(pendingPushes.get(i).getId().getValue());
+                }
+            }
+            pendingPushes.clear();
+            pendingPushContacts.clear();
+        }
+    }
+
+    /** Keeps track of the latest Google update time seen in this sync, so that the next sync can tell which local
+     * contacts changed since without comparing the local clock with that of Google
+     *
+     * @param person
+     */
+    private void recordUpdateTime(Person person) {
+        Instant updateTime = Instant.parse(getLastUpdated(person));
+        if (latestUpdateTime == null || updateTime.isAfter(latestUpdateTime)) {
+            latestUpdateTime = updateTime;
+        }
+    }
+
+    /** Returns true if the Google Contact is only listed to show that it has been deleted
+     *
+     * @param person
+     */
+    private boolean isDeleted(Person person) {
+        return person.getMetadata() != null && Boolean.TRUE.equals(person.getMetadata().getDeleted());
+    }
+
+    /** Syncs a Google Contact with its linked local contact, or imports it if it is not linked yet
+     *
+     * @param person
+     * @throws Exception
+     */
+    private void syncConnection(Person person) throws Exception {
+        String id = person.getResourceName();
+        seenIds.add(id);
+        recordUpdateTime(person);
+
+        if (!syncedIDs.contains(id) && hashId.containsKey(id)) {
+            syncedIDs.add(id);
+        }
 
-        if (connections != null) {
-            hashGoogleId = constructGoogleHashId();
-            hashGoogle = constructHashGoogle();
+        if (!syncedIDs.contains(id)) {
+            importContact(person);
+        } else if (!hashId.containsKey(id)) {
+            // Contact has been deleted locally. We update this remotely
+            pendingDeletes.add(id);
         } else {
-            hashGoogleId = new HashMap<String, Person>();
-            hashGoogle = new HashMap<seedu.address.model.person.Person, Person>();
+            updateContact(hashId.get(id), person);
         }
     }
 
-    /** Ensures that all Google Contacts have not been removed, and unlinks them if they are
+    /** Ensures that all linked local contacts are still in Google Contacts, and deletes them if they are not
      *
      * @throws Exception
      */
     private void checkContacts() throws Exception {
-        List<ReadOnlyPerson> personList =  model.getAddressBook().getPersonList();;
+        List<ReadOnlyPerson> personList =  model.getAddressBook().getPersonList();
         List<ReadOnlyPerson> toDelete = new ArrayList<ReadOnlyPerson>();
         for (ReadOnlyPerson person : personList) {
             String id = person.getId().getValue();
 
-            if (!id.equals("")) {
-                if (!hashGoogleId.containsKey(id)) {
-                    logger.info("Deleting local contact");
-                    toDelete.add(person);
-                    syncedIDs.remove(id);
-                    continue;
-                } else if (!syncedIDs.contains(id)) {
-                    syncedIDs.add(id);
-                }
+            if (!id.equals("") && !seenIds.contains(id)) {
+                logger.info("Deleting local contact");
+                toDelete.add(person);
             }
-
         }
 
         for (ReadOnlyPerson dPerson: toDelete) {
-            hashAbc.remove(getHashKey(dPerson));
             hashId.remove(dPerson.getId().getValue());
             model.deletePerson(dPerson);
         }
+        syncedIDs.retainAll(seenIds);
     }
 
-    /** Exports local contacts to Google Contacts
-     *
+    /** Exports local contacts that are not linked to any Google Contact to Google Contacts, creating them in
+     * batches
      *
      * @throws IOException
      */
 
     private void exportContacts () throws Exception {
-        List<ReadOnlyPerson> personList = model.getAddressBook().getPersonList();
-        for (ReadOnlyPerson person : personList) {
+        List<ReadOnlyPerson> unlinkedPersons = new ArrayList<>();
+        List<Person> contactsToCreate = new ArrayList<>();
+        for (ReadOnlyPerson person : model.getAddressBook().getPersonList()) {
             if (person.getId().getValue().equals("")) {
-                seedu.address.model.person.Person key = getHashKey(person);
-                if (!hashGoogle.containsKey(key)) {
-                    addGoogleContact(person);
-                } else {
-                    // We check if the person is identical, and link them if they are
-                    Person gPerson = hashGoogle.get(key);
-                    if (equalPerson(person, gPerson)) {
-                        linkContacts(person, gPerson);
-                    } else {
-                        addGoogleContact(person);
-                    }
-                }
+                unlinkedPersons.add(person);
+                contactsToCreate.add(convertAPerson(person));
             }
         }
-    }
-
-    /**Pulls Google contacts and import new contacts, while checking for updates
-     */
-
-    private void importContacts () throws IOException {
-
-        for (Person person : connections) {
-            try {
-                String id = person.getResourceName();
-                if (!syncedIDs.contains(id)) {
-                    seedu.address.model.person.Person key = convertGooglePerson(person);
-                    if (key == null) {
-                        continue;
-                    }
-                    if (!hashAbc.containsKey(key)) {
-                        addAContact(person);
-                    } else {
-                        seedu.address.model.person.ReadOnlyPerson aPerson = hashAbc.get(key);
-                        if (equalPerson(aPerson, person)) {
-                            linkContacts(aPerson, person);
-                        } else {
-                            addAContact(person);
-                        }
-                    }
-                }
-            } catch (DuplicatePersonException e) {
-                logger.info("Not importing duplicate");
 
-            } catch (Exception e) {
-                e.printStackTrace();
+        List<Person> createdContacts = contacts.createContacts(contactsToCreate);
+        for (int i = 0; i < unlinkedPersons.size(); i++) {
+            if (createdContacts.get(i) != null) {
+                recordUpdateTime(createdContacts.get(i));
+                addGoogleContact(unlinkedPersons.get(i), createdContacts.get(i));
             }
         }
     }
 
-    /** Update all contacts
+    /** Imports a Google Contact that is not linked to any local contact, linking it to an identical local contact
+     * instead if there is one
      *
+     * @param person
      * @throws Exception
      */
-    private void updateContacts() throws Exception {
-        List<String> toRemove = new ArrayList<String>();
-        for (String id : syncedIDs) {
-            seedu.address.model.person.ReadOnlyPerson aPerson;
-            Person person;
-
-            if (!hashId.containsKey(id)) {
-                // Contact has been deleted locally. We update this remotely
-                if (hashGoogleId.containsKey(id)) {
-                    client.people().deleteContact(id).execute();
-                    Person gRemove = hashGoogleId.get(id);
-                    connections.remove(gRemove);
-                    hashGoogleId.remove(id);
-                    hashGoogle.remove(convertGooglePerson(gRemove));
-                }
-                toRemove.add(id);
-                logger.info("Removing id: " + id);
-                continue;
+    private void importContact(Person person) throws Exception {
+        try {
+            seedu.address.model.person.Person key = convertGooglePerson(person);
+            if (key == null) {
+                return;
             }
-
-            aPerson = hashId.get(id);
-
-            if (!hashGoogleId.containsKey(id)) {
-                // Contact is no longer existent on Google servers
-                seedu.address.model.person.Person updatedPerson = setId(aPerson, "");
-                updatePerson(aPerson, updatedPerson);
-                logger.info("Removing id: " + id);
-                toRemove.add(id);
-                continue;
+            ReadOnlyPerson aPerson = hashAbc.get(key);
+            if (aPerson != null && equalPerson(aPerson, person)) {
+                linkContacts(aPerson, person);
+                hashAbc.remove(key);
+                syncedIDs.add(person.getResourceName());
+            } else {
+                addAContact(person);
             }
+        } catch (DuplicatePersonException e) {
+            logger.info("Not importing duplicate");
+        }
+    }
 
-            person = hashGoogleId.get(id);
-            connections.remove(person);
-
-            String lastUpdated = person.getMetadata().getSources().get(0).getUpdateTime();
-            Instant gTime = Instant.parse(lastUpdated);
-            Instant aTime = Instant.parse(aPerson.getLastUpdated().getValue());
-            Integer compare = gTime.compareTo(aTime);
+    /** Updates a linked contact with its Google Contact, or queues the update of the Google Contact with the linked
+     * contact, depending on which was updated last
+     *
+     * @param aPerson
+     * @param person
+     * @throws IllegalValueException
+     * @throws PersonNotFoundException
+     */
+    private void updateContact(ReadOnlyPerson aPerson, Person person)
+            throws IllegalValueException, PersonNotFoundException {
+        String lastUpdated = person.getMetadata().getSources().get(0).getUpdateTime();
+        Instant gTime = Instant.parse(lastUpdated);
+        Instant aTime = Instant.parse(aPerson.getLastUpdated().getValue());
+        Integer compare = gTime.compareTo(aTime);
 
+        try {
             if (compare < 0) {
                 Person updatedPerson = convertAPerson(aPerson);
+                updatedPerson.setResourceName(person.getResourceName());
                 updatedPerson.setMetadata(person.getMetadata());
                 checkNullFields(person, updatedPerson);
 
-                // The Google Contact is updated
-                Person updatedContact = client.people()
-                        .updateContact(person.getResourceName(), updatedPerson)
-                        .setUpdatePersonFields("names,emailAddresses,addresses,phoneNumbers")
-                        .execute();
-
-                // Synchronize update time of both database entries to prevent looping
-                String newUpdated = updatedContact.getMetadata().getSources().get(0).getUpdateTime();
-                seedu.address.model.person.Person updatedAPerson = new seedu.address.model.person.Person(aPerson);
-                updatedAPerson.setLastUpdated(new LastUpdated(newUpdated));
-                model.updatePerson(aPerson, updatedAPerson);
+                // The Google Contact is updated with the next batch of writes
+                pendingPushes.add(aPerson);
+                pendingPushContacts.add(updatedPerson);
 
             } else if (compare > 0) {
                 // The local contact is updated
                 seedu.address.model.person.Person updatedPerson = convertGooglePerson(person, aPerson);
                 model.updatePerson(aPerson, updatedPerson);
             }
+        } catch (DuplicatePersonException e) {
+            logger.info("Not updating local contact to a duplicate");
         }
-        syncedIDs.removeAll(toRemove);
+    }
 
+    /** Synchronizes the update time of a local contact with that of the Google Contact just updated with it, to
+     * prevent looping
+     *
+     * @param aPerson
+     * @param updatedContact
+     * @throws IllegalValueException
+     * @throws PersonNotFoundException
+     */
+    private void syncUpdateTime(ReadOnlyPerson aPerson, Person updatedContact)
+            throws IllegalValueException, PersonNotFoundException {
+        String newUpdated = updatedContact.getMetadata().getSources().get(0).getUpdateTime();
+        seedu.address.model.person.Person updatedAPerson = new seedu.address.model.person.Person(aPerson);
+        updatedAPerson.setLastUpdated(new LastUpdated(newUpdated));
+        model.updatePerson(aPerson, updatedAPerson);
     }
 
     /** Links a ABC and Google contact
@@ -299,15 +470,13 @@ public class SyncCommand extends Command {
 
     }
 
-    /** Adds a Google contact from the specified ABC contact
+    /** Links the specified ABC contact to the Google contact created from it
      *
      * @param person
+     * @param createdContact
      * @throws Exception
      */
-    protected void addGoogleContact (ReadOnlyPerson person) throws Exception {
-        Person contactToCreate = convertAPerson(person);
-        Person createdContact = client.people().createContact(contactToCreate).execute();
-
+    protected void addGoogleContact (ReadOnlyPerson person, Person createdContact) throws Exception {
         String id = createdContact.getResourceName();
 
         seedu.address.model.person.Person updatedPerson = setId(person, id);
@@ -496,14 +665,12 @@ public class SyncCommand extends Command {
      *
      * @param person
      * @param updatedPerson
+     * @throws DuplicatePersonException
+     * @throws PersonNotFoundException
      */
-    protected void updatePerson (ReadOnlyPerson person, seedu.address.model.person.Person updatedPerson) {
-        try {
-            model.updatePerson(person, updatedPerson);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
+    protected void updatePerson (ReadOnlyPerson person, seedu.address.model.person.Person updatedPerson)
+            throws DuplicatePersonException, PersonNotFoundException {
+        model.updatePerson(person, updatedPerson);
     }
 
     /** Retrieves full name from a Google Contact
@@ -605,50 +772,22 @@ public class SyncCommand extends Command {
     }
 
 
-    /**Constructs a HashMap of Google ResourceName and their Person objects
-     *
-     * @return Hashmap
-     */
-
-    protected HashMap<String, Person> constructGoogleHashId () {
-        HashMap<String, Person> result = new HashMap<>();
-
-        connections.forEach(e -> {
-            result.put(e.getResourceName(), e);
-        });
-
-        return result;
-    }
-
-    /**Constructs a HashMap of Google ResourceName and their Person objects
+    /** Saves the HashSet tracking synchronised entries
      *
-     * @return Hashmap
+     * @param object
      */
-
-    protected HashMap<seedu.address.model.person.Person, Person> constructHashGoogle () {
-        HashMap<seedu.address.model.person.Person, Person> result = new HashMap<>();
-
-        connections.forEach(e -> {
-            try {
-                seedu.address.model.person.Person key = convertGooglePerson(e);
-                if (key != null) {
-                    result.put(key, e);
-                }
-            } catch (Exception ex) {
-                logger.severe("Error in constructHashGoogle");
-            }
-        });
-
-        return result;
+    protected void saveStatus(Serializable object) {
+        saveStatus(object, SYNCED_IDS_FILE);
     }
 
-    /** Saves the HashSet tracking synchronised entries
+    /** Saves sync state to the specified file
      *
      * @param object
+     * @param filePath
      */
-    protected void saveStatus(Serializable object) {
+    protected void saveStatus(Serializable object, String filePath) {
         try {
-            FileOutputStream saveFile = new FileOutputStream("data/syncedIDs.dat");
+            FileOutputStream saveFile = new FileOutputStream(filePath);
             ObjectOutputStream out = new ObjectOutputStream(saveFile);
             out.writeObject(object);
             out.close();
@@ -663,9 +802,18 @@ public class SyncCommand extends Command {
      * @return an Object which is casted to its original type (HashSet in this case)
      */
     protected Object loadStatus() {
+        return loadStatus(SYNCED_IDS_FILE);
+    }
+
+    /** Restores the sync state saved to the specified file
+     *
+     * @param filePath
+     * @return the saved Object, or null if there is none
+     */
+    protected Object loadStatus(String filePath) {
         Object result = null;
         try {
-            FileInputStream saveFile = new FileInputStream("data/syncedIDs.dat");
+            FileInputStream saveFile = new FileInputStream(filePath);
             ObjectInputStream in = new ObjectInputStream(saveFile);
             result = in.readObject();
             in.close();
@@ -747,9 +895,36 @@ public class SyncCommand extends Command {
         syncedIDs = syncedId;
     }
 
+    /**Used for tests
+     *
+     * @param contacts
+     */
+    protected void setContactsService (ContactsService contacts) {
+        this.contacts = contacts;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || other instanceof SyncCommand; // instanceof handles null
     }
+
+    /**
+     * The sync token issued by the last sync, the latest Google update time seen by it, after which local contacts
+     * have been changed if their last updated time is later, and the IDs of the contacts whose changes it could not
+     * push to Google Contacts.
+     */
+    private static class SyncCheckpoint implements Serializable {
+        private static final long serialVersionUID = 2L;
+
+        private final String syncToken;
+        private final Instant syncTime;
+        private final HashSet<String> unpushedIds;
+
+        SyncCheckpoint(String syncToken, Instant syncTime, HashSet<String> unpushedIds) {
+            this.syncToken = syncToken;
+            this.syncTime = syncTime;
+            this.unpushedIds = unpushedIds;
+        }
+    }
 }
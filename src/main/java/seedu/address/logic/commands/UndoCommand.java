@@ -25,7 +25,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        undoRedoStack.popUndo().undo();
+        try {
+            undoRedoStack.popUndo().undo();
+        } catch (CommandException ce) {
+            undoRedoStack.clear();
+            throw ce;
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
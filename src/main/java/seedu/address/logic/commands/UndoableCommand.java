@@ -6,56 +6,80 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
-    private ReadOnlyAddressBook addressBookAfterExecution;
+    public static final String MESSAGE_STALE_DELTA =
+            "The address book was changed by a command that cannot be undone, so this command cannot be %1$s.";
+
+    private AddressBookDelta delta;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Returns a rough estimate of the memory kept alive by this command for undo and redo, in bytes.
      */
-    private void saveAddressBookSnapshot() {
-        requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+    public long getUndoFootprint() {
+        return (delta == null) ? 0 : delta.getEstimatedSize();
     }
 
     /**
      * Reverts the AddressBook to the state before this command
      * was executed and updates the filtered person list and
      * filtered meeting list to show all persons and meetings.
+     *
+     * @throws CommandException if the AddressBook was modified since this command was executed
+     *      by something other than an undoable command.
      */
-    protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        this.addressBookAfterExecution = new AddressBook(model.getAddressBook());
-        model.resetData(previousAddressBook);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.sortMeeting();
-        model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+    protected final void undo() throws CommandException {
+        requireAllNonNull(model, delta);
+        applyDelta(delta.inverse(), "undone");
     }
 
     /**
      * Executes the command and updates the filtered person
      * list and filtered meeting list to show all persons
      * and meetings.
+     *
+     * @throws CommandException if the AddressBook was modified since this command was undone
+     *      by something other than an undoable command.
+     */
+    protected final void redo() throws CommandException {
+        requireAllNonNull(model, delta);
+        applyDelta(delta, "redone");
+    }
+
+    /**
+     * Applies {@code toApply} to the model and shows all persons and meetings.
      */
-    protected final void redo() {
-        requireAllNonNull(model, addressBookAfterExecution);
-        model.resetData(addressBookAfterExecution);
+    private void applyDelta(AddressBookDelta toApply, String action) throws CommandException {
+        try {
+            model.applyDelta(toApply);
+        } catch (AddressBookDelta.StaleDeltaException sde) {
+            throw new CommandException(String.format(MESSAGE_STALE_DELTA, action));
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.sortMeeting();
         model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
     }
 
+    /**
+     * Executes the command while the model records the changes it makes, so that only the persons this command
+     * touched are kept alive for undo and redo, and neither the whole address book is copied nor diffed.
+     */
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
-        return executeUndoableCommand();
+        requireNonNull(model);
+        model.startRecordingChanges();
+        CommandResult result;
+        try {
+            result = executeUndoableCommand();
+        } finally {
+            delta = model.stopRecordingChanges();
+        }
+        return result;
     }
 }
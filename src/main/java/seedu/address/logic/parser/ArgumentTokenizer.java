@@ -1,7 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -13,137 +15,123 @@ import java.util.List;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /** Automata of the sets of prefixes tokenized with, as each parser tokenizes with the same prefixes every time */
+    private static final Map<List<Prefix>, PrefixAutomaton> automata = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
+     * The arguments string is walked once, and every position after a whitespace is run through an automaton of
+     * all the given prefixes, so each value is stored as soon as the prefix that ends it is found.
+     *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        PrefixAutomaton automaton = automata.computeIfAbsent(Arrays.asList(prefixes), PrefixAutomaton::new);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        for (Prefix prefix : prefixes) {
-            positions.addAll(findPrefixPositions(argsString, prefix));
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        int position = 1;
+        while (position < argsString.length()) {
+            Prefix prefix = argsString.charAt(position - 1) == ' ' ? automaton.match(argsString, position) : null;
+            if (prefix == null) {
+                position++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, position));
+            currentPrefix = prefix;
+            valueStartPos = position + prefix.getPrefix().length();
+            position = valueStartPos;
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
 
-        return positions;
+        return argMultimap;
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Returns the value between {@code valueStartPos} and {@code valueEndPos} in {@code argsString}, without
+     * leading and trailing whitespaces.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    private static String extractArgumentValue(String argsString, int valueStartPos, int valueEndPos) {
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
         }
-
-        return argMultimap;
+        return argsString.substring(valueStartPos, valueEndPos);
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie of prefixes, which finds the longest prefix that occurs at a position of an arguments string.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static class PrefixAutomaton {
+        private final State start = new State();
+
+        PrefixAutomaton(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+                State state = start;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    state = state.nextOrAdd(prefixString.charAt(i));
+                }
+                state.accepted = prefix;
+            }
+        }
 
-        return value.trim();
+        /**
+         * Returns the longest prefix that occurs in {@code argsString} at {@code position}, or null if there is none.
+         */
+        Prefix match(String argsString, int position) {
+            Prefix longestMatch = null;
+            State state = start;
+            for (int i = position; i < argsString.length() && state != null; i++) {
+                state = state.next(argsString.charAt(i));
+                if (state != null && state.accepted != null) {
+                    longestMatch = state.accepted;
+                }
+            }
+            return longestMatch;
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A state of a {@code PrefixAutomaton}, with a transition for each character that continues some prefix.
+     * Prefixes are short and few, so the transitions are searched linearly.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return this.startPosition;
+    private static class State {
+        private char[] labels = new char[0];
+        private State[] targets = new State[0];
+        private Prefix accepted;
+
+        State next(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return targets[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return this.prefix;
+        State nextOrAdd(char c) {
+            State target = next(c);
+            if (target == null) {
+                target = new State();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                targets = Arrays.copyOf(targets, targets.length + 1);
+                labels[labels.length - 1] = c;
+                targets[targets.length - 1] = target;
+            }
+            return target;
         }
     }
 
@@ -0,0 +1,120 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.AddTagCommand;
+import seedu.address.logic.commands.BackupCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteMeetingCommand;
+import seedu.address.logic.commands.DeleteTagCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.LoginCommand;
+import seedu.address.logic.commands.LogoutCommand;
+import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ResizeCommand;
+import seedu.address.logic.commands.RestoreBackupCommand;
+import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.commands.UndoCommand;
+
+/**
+ * The command words and aliases of every command, and the parser of each command.
+ * A new command only has to be registered here to be parsed by {@code AddressBookParser} and suggested by the
+ * auto-completion.
+ *
+ * Parsers are shared by every parse of their command, so they must not keep any state between parses. Commands
+ * that take no arguments are parsed by ignoring the arguments.
+ */
+public class CommandRegistry {
+
+    private static final List<String> commandWords = new ArrayList<>();
+    /** Command words and aliases mapped to the command word of their command */
+    private static final Map<String, String> commandWordsByAlias = new HashMap<>();
+    /** Command words and aliases mapped to the parser of their command */
+    private static final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    static {
+        register(AddCommand.COMMAND_WORD, AddCommand.COMMAND_ALIAS, new AddCommandParser());
+        register(AddMeetingCommand.COMMAND_WORD, AddMeetingCommand.COMMAND_ALIAS, new AddMeetingCommandParser());
+        register(AddTagCommand.COMMAND_WORD, AddTagCommand.COMMAND_ALIAS, new AddTagCommandParser());
+        register(BackupCommand.COMMAND_WORD, BackupCommand.COMMAND_ALIAS, arguments -> new BackupCommand());
+        register(ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_ALIAS, arguments -> new ClearCommand());
+        register(DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_ALIAS, new DeleteCommandParser());
+        register(DeleteMeetingCommand.COMMAND_WORD, DeleteMeetingCommand.COMMAND_ALIAS,
+                new DeleteMeetingCommandParser());
+        register(DeleteTagCommand.COMMAND_WORD, DeleteTagCommand.COMMAND_ALIAS, new DeleteTagCommandParser());
+        register(EditCommand.COMMAND_WORD, EditCommand.COMMAND_ALIAS, new EditCommandParser());
+        register(ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_ALIAS, arguments -> new ExitCommand());
+        register(FindCommand.COMMAND_WORD, FindCommand.COMMAND_ALIAS, new FindCommandParser());
+        register(HelpCommand.COMMAND_WORD, HelpCommand.COMMAND_ALIAS, arguments -> new HelpCommand());
+        register(HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_ALIAS, arguments -> new HistoryCommand());
+        register(ListCommand.COMMAND_WORD, ListCommand.COMMAND_ALIAS, arguments -> new ListCommand());
+        register(LoginCommand.COMMAND_WORD, LoginCommand.COMMAND_ALIAS, arguments -> new LoginCommand());
+        register(LogoutCommand.COMMAND_WORD, LogoutCommand.COMMAND_ALIAS, arguments -> new LogoutCommand());
+        register(NoteCommand.COMMAND_WORD, NoteCommand.COMMAND_ALIAS, new NoteCommandParser());
+        register(RedoCommand.COMMAND_WORD, RedoCommand.COMMAND_ALIAS, arguments -> new RedoCommand());
+        register(ResizeCommand.COMMAND_WORD, ResizeCommand.COMMAND_ALIAS, new ResizeCommandParser());
+        register(RestoreBackupCommand.COMMAND_WORD, RestoreBackupCommand.COMMAND_ALIAS,
+                arguments -> new RestoreBackupCommand());
+        register(SelectCommand.COMMAND_WORD, SelectCommand.COMMAND_ALIAS, new SelectCommandParser());
+        register(SortCommand.COMMAND_WORD, SortCommand.COMMAND_ALIAS, new SortCommandParser());
+        register(SyncCommand.COMMAND_WORD, SyncCommand.COMMAND_ALIAS, arguments -> new SyncCommand());
+        register(UndoCommand.COMMAND_WORD, UndoCommand.COMMAND_ALIAS, arguments -> new UndoCommand());
+    }
+
+    private CommandRegistry() {}
+
+    /**
+     * Registers a command with {@code commandWord} and {@code alias}, which is parsed by {@code parser}.
+     */
+    private static void register(String commandWord, String alias, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, alias, parser);
+        for (String word : new String[] {commandWord, alias}) {
+            if (commandWordsByAlias.putIfAbsent(word, commandWord) != null) {
+                throw new IllegalStateException("Command word or alias registered twice: " + word);
+            }
+            parsers.put(word, parser);
+        }
+        commandWords.add(commandWord);
+    }
+
+    /**
+     * Returns the parser of the command with the command word or alias {@code word}, if there is such a command.
+     */
+    public static Optional<Parser<? extends Command>> getParser(String word) {
+        return Optional.ofNullable(parsers.get(word));
+    }
+
+    /**
+     * Returns the command word of the command with the command word or alias {@code word}, if there is such a
+     * command.
+     */
+    public static Optional<String> getCommandWord(String word) {
+        return Optional.ofNullable(commandWordsByAlias.get(word));
+    }
+
+    /**
+     * Returns the command words of all commands, without their aliases.
+     */
+    public static List<String> getCommandWords() {
+        return Collections.unmodifiableList(commandWords);
+    }
+}
@@ -6,14 +6,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ReadOnlyPerson;
@@ -38,7 +41,8 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, searchFields);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_TAG, PREFIX_RANK);
         if (!isAnyPrefixPresent(argMultimap, searchFields)) {
             return throwParserException();
         }
@@ -72,7 +76,23 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
         }
 
-        return new FindCommand(predicates);
+        return new FindCommand(predicates, parseResultLimit(argMultimap.getValue(PREFIX_RANK)));
+    }
+
+    /**
+     * Parses the number of ranked results asked for by {@code resultLimit}, which is {@code FindCommand.UNRANKED}
+     * if it is not present.
+     * @throws ParseException if {@code resultLimit} is present but not a positive integer
+     */
+    private static int parseResultLimit(Optional<String> resultLimit) throws ParseException {
+        if (!resultLimit.isPresent()) {
+            return FindCommand.UNRANKED;
+        }
+        String trimmedLimit = resultLimit.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_RESULT_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
     }
 
     private FindCommand throwParserException() throws ParseException {
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.UniqueMeetingList;
@@ -17,6 +19,7 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
@@ -29,6 +32,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueTagList tags;
     private final UniqueMeetingList meetings;
+    // snapshot of the current state, shared between callers until the next modification
+    private AddressBookSnapshot latestSnapshot;
+    // replacements made to the person list since startRecordingChanges(), in order, or null if not recording
+    private List<AddressBookDelta.Hunk> recordedChanges;
+    private List<Tag> tagsBeforeRecording;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -41,6 +49,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         tags = new UniqueTagList();
         meetings = new UniqueMeetingList();
+        persons.addListener(this::recordChange);
     }
 
     public AddressBook() {}
@@ -56,37 +65,174 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+        invalidateSnapshot();
         this.persons.setPersons(persons);
     }
 
     public void setTags(Set<Tag> tags) {
+        invalidateSnapshot();
         this.tags.setTags(tags);
     }
 
     public void setMeetings(Set<Meeting> meetings) {
+        invalidateSnapshot();
         this.meetings.setMeetings(meetings);
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is an {@code AddressBookSnapshot}, its persons are reused rather than copied.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        Set<Meeting> meetingList = new HashSet<>();
+        if (newData instanceof AddressBookSnapshot) {
+            restoreSnapshot((AddressBookSnapshot) newData);
+            return;
+        }
+
+        setTags(new HashSet<>(newData.getTagList()));
+        // the tags are synced before the persons are put in the list, so that no listed person is modified
+        List<Person> syncedPersons = new ArrayList<>();
+        for (ReadOnlyPerson person : newData.getPersonList()) {
+            Person syncedPerson = new Person(person);
+            syncMasterTagListWith(syncedPerson);
+            syncedPersons.add(syncedPerson);
+        }
         try {
-            setPersons(newData.getPersonList());
-            for (Person person : persons) {
-                setMeetingWithPersonDetails(person);
-                meetingList.addAll(person.getMeetings());
-            }
+            setPersons(syncedPersons);
         } catch (DuplicatePersonException e) {
             assert false : "AddressBooks should not have duplicate persons";
         }
-        setTags(new HashSet<>(newData.getTagList()));
+        Set<Meeting> meetingList = new HashSet<>();
+        for (Person person : persons) {
+            meetingList.addAll(person.getMeetings());
+        }
         setMeetings(meetingList);
         sortMeeting();
-        syncMasterTagListWith(persons);
-        syncMasterMeetingListWith(persons);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this {@code AddressBook}.
+     * The snapshot shares its persons, tags and meetings with this address book, and the same snapshot is
+     * returned until this address book is next modified.
+     */
+    public AddressBookSnapshot snapshot() {
+        if (latestSnapshot == null) {
+            // each list is copied exactly once, and the snapshot takes ownership of the copies
+            latestSnapshot = new AddressBookSnapshot(persons.toList(), new ArrayList<>(getTagList()),
+                    new ArrayList<>(getMeetingList()));
+        }
+        return latestSnapshot;
+    }
+
+    /**
+     * Restores the state captured in {@code snapshot}, only touching the persons that differ from it.
+     */
+    private void restoreSnapshot(AddressBookSnapshot snapshot) {
+        try {
+            applyDelta(AddressBookDelta.between(snapshot(), snapshot));
+        } catch (AddressBookDelta.StaleDeltaException sde) {
+            throw new AssertionError("A delta from the current state is always applicable", sde);
+        }
+    }
+
+    /**
+     * Applies the changes in {@code delta} to this {@code AddressBook}.
+     * The persons in the delta are reused rather than copied, as their tags already point to the master list they
+     * were recorded with, and their meetings already point to them.
+     *
+     * @throws AddressBookDelta.StaleDeltaException if this address book is not in the state {@code delta} was
+     *      recorded from. This address book is left unchanged.
+     */
+    public void applyDelta(AddressBookDelta delta) throws AddressBookDelta.StaleDeltaException {
+        requireNonNull(delta);
+        List<AddressBookDelta.Hunk> hunks = delta.getHunks();
+        // persons may move between hunks, such as when the persons were sorted
+        Set<Person> removedPersons = new HashSet<>();
+        for (AddressBookDelta.Hunk hunk : hunks) {
+            if (!persons.hasPersonsAt(hunk.index, hunk.removed)) {
+                throw new AddressBookDelta.StaleDeltaException();
+            }
+            removedPersons.addAll(hunk.removed);
+        }
+        for (AddressBookDelta.Hunk hunk : hunks) {
+            for (Person added : hunk.added) {
+                if (persons.contains(added) && !removedPersons.contains(added)) {
+                    throw new AddressBookDelta.StaleDeltaException();
+                }
+            }
+        }
+
+        invalidateSnapshot();
+        if (!hunks.isEmpty()) {
+            // the hunks are replaced in one go, so that no person is in the list twice in between
+            int from = hunks.get(0).index;
+            int next = from;
+            List<Person> replacement = new ArrayList<>();
+            for (AddressBookDelta.Hunk hunk : hunks) {
+                replacement.addAll(persons.toList(next, hunk.index));
+                replacement.addAll(hunk.added);
+                next = hunk.index + hunk.removed.size();
+            }
+            persons.replacePersons(from, next - from, replacement);
+        }
+        Set<Tag> tagList = tags.toSet();
+        tagList.removeAll(delta.getRemovedTags());
+        tagList.addAll(delta.getAddedTags());
+        tags.setTags(tagList);
+
+        Set<Meeting> meetingList = new HashSet<>();
+        for (Person person : persons) {
+            meetingList.addAll(person.getMeetings());
+        }
+        meetings.setMeetings(meetingList);
+        sortMeeting();
+    }
+
+    /**
+     * Starts recording the changes made to this {@code AddressBook}, discarding any changes recorded so far.
+     */
+    public void startRecordingChanges() {
+        recordedChanges = new ArrayList<>();
+        tagsBeforeRecording = new ArrayList<>(tags.asObservableList());
+    }
+
+    /**
+     * Stops recording changes, and returns the changes made since {@link #startRecordingChanges()}.
+     * Unlike {@link AddressBookDelta#between}, this only reads the persons that the changes touched.
+     */
+    public AddressBookDelta stopRecordingChanges() {
+        if (recordedChanges == null) {
+            throw new IllegalStateException("Changes are not being recorded");
+        }
+        AddressBookDelta delta = AddressBookDelta.fromChanges(recordedChanges, persons, tagsBeforeRecording,
+                tags.asObservableList());
+        recordedChanges = null;
+        tagsBeforeRecording = null;
+        return delta;
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        if (recordedChanges == null) {
+            return;
+        }
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<Person> before = new ArrayList<>();
+                for (int i = from; i < change.getTo(); i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                recordedChanges.add(new AddressBookDelta.Hunk(from, before,
+                        change.getList().subList(from, change.getTo())));
+            } else {
+                recordedChanges.add(new AddressBookDelta.Hunk(from, change.getRemoved(), change.getAddedSubList()));
+            }
+        }
+    }
+
+    private void invalidateSnapshot() {
+        latestSnapshot = null;
     }
 
     //// person-level operations
@@ -99,6 +245,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(ReadOnlyPerson p) throws DuplicatePersonException {
+        invalidateSnapshot();
         Person newPerson = new Person(p);
         syncMasterTagListWith(newPerson);
         // TODO: the tags master list will be updated even though the below line fails.
@@ -123,6 +270,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedReadOnlyPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedReadOnlyPerson);
+        invalidateSnapshot();
 
         Person editedPerson = new Person(editedReadOnlyPerson);
         syncMasterTagListWith(editedPerson);
@@ -134,21 +282,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     //@@author LimYangSheng
-    /**
-     * Updates {@code person} meetings to have reference to itself.
-     */
-    private void setMeetingWithPersonDetails(ReadOnlyPerson person) {
-        for (Meeting meeting : person.getMeetings()) {
-            meeting.setPerson(person);
-        }
-    }
-
     /**
      * Finds the meetings in meeting list with {@code Person} that equals {@code target} and replaces it with
      * {@code editedReadOnlyPerson}
      */
     public void updateMeetings(ReadOnlyPerson target, ReadOnlyPerson editedReadOnlyPerson) {
         requireNonNull(editedReadOnlyPerson);
+        invalidateSnapshot();
         meetings.updateMeetings(target, editedReadOnlyPerson);
     }
 
@@ -173,16 +313,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         person.setTags(correctTagReferences);
     }
 
-    /**
-     * Ensures that every tag in these persons:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     *  @see #syncMasterTagListWith(Person)
-     */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
-    }
-
     //@@author alexanderleegs
     /**
      * Ensures that every meeting in this person:
@@ -200,16 +330,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         personMeetings.forEach(meeting -> correctMeetingReferences.add(masterMeetingObjectReferences.get(meeting)));
         person.setMeetings(correctMeetingReferences);
     }
-
-    /**
-     * Ensures that every meeting in these persons:
-     *  - exists in the master list {@link #meetings}
-     *  - points to a Meeting object in the master list
-     *  @see #syncMasterMeetingListWith(Person)
-     */
-    private void syncMasterMeetingListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterMeetingListWith);
-    }
     //@@author
 
     /**
@@ -218,6 +338,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
         if (persons.contains(key)) {
+            invalidateSnapshot();
             persons.remove(key);
             Set<Meeting> meetingsToRemove = key.getMeetings();
             for (Meeting meeting : meetingsToRemove) {
@@ -231,6 +352,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //@@author alexanderleegs
     public void deleteMeeting(Meeting meeting) {
+        invalidateSnapshot();
         meetings.remove(meeting);
     }
 
@@ -238,6 +360,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Sorts contacts by {@code field}.
      */
     public void sort(String field) {
+        invalidateSnapshot();
         persons.sort(field);
         sortMeeting();
     }
@@ -246,10 +369,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
+        invalidateSnapshot();
         tags.add(t);
     }
 
     public void sortMeeting() {
+        invalidateSnapshot();
         meetings.sortMeeting();
     }
 
@@ -266,6 +391,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asObservableList();
     }
 
+    /**
+     * Returns the word index over the persons in {@link #getPersonList()}, which is kept up to date as they change.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
     @Override
     public ObservableList<Tag> getTagList() {
         return tags.asObservableList();
@@ -0,0 +1,272 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The changes between two states of an {@code AddressBook}, recorded as the ranges of persons that were replaced
+ * and the tags that were added to or removed from the master tag list.
+ *
+ * A delta only holds the persons that changed, so its size grows with the size of an edit rather than with the
+ * size of the address book. Persons are compared by reference, relying on {@code AddressBook} replacing persons on
+ * edit rather than modifying them.
+ */
+public class AddressBookDelta {
+
+    /** Rough fixed cost of keeping a person reachable, on top of the characters of its fields. */
+    private static final long ESTIMATED_BYTES_PER_PERSON = 256;
+    private static final long ESTIMATED_BYTES_PER_TAG = 64;
+
+    private final List<Hunk> hunks;
+    private final Set<Tag> removedTags;
+    private final Set<Tag> addedTags;
+    private final long estimatedSize;
+
+    private AddressBookDelta(List<Hunk> hunks, Set<Tag> removedTags, Set<Tag> addedTags) {
+        this.hunks = Collections.unmodifiableList(hunks);
+        this.removedTags = Collections.unmodifiableSet(removedTags);
+        this.addedTags = Collections.unmodifiableSet(addedTags);
+        this.estimatedSize = estimateSize(hunks, removedTags, addedTags);
+    }
+
+    /**
+     * Returns the delta that turns {@code before} into {@code after}.
+     */
+    public static AddressBookDelta between(AddressBookSnapshot before, AddressBookSnapshot after) {
+        requireAllNonNull(before, after);
+        List<Person> beforePersons = before.getPersons();
+        List<Person> afterPersons = after.getPersons();
+
+        return new AddressBookDelta(diff(beforePersons, afterPersons, 0),
+                difference(before.getTagList(), after.getTagList()),
+                difference(after.getTagList(), before.getTagList()));
+    }
+
+    /**
+     * Returns the delta made up of {@code changes}, the primitive replacements made to a person list in order,
+     * which left the list as {@code currentPersons}, while its master tag list went from {@code tagsBefore} to
+     * {@code tagsAfter}.
+     * Only the range of positions touched by the changes is read from {@code currentPersons}, so the cost grows with
+     * the size of the changes rather than with the size of the list.
+     */
+    static AddressBookDelta fromChanges(List<Hunk> changes, UniquePersonList currentPersons,
+                                        Collection<Tag> tagsBefore, Collection<Tag> tagsAfter) {
+        requireAllNonNull(changes, currentPersons, tagsBefore, tagsAfter);
+        List<Hunk> hunks = Collections.emptyList();
+        if (!changes.isEmpty()) {
+            int sizeBefore = currentPersons.size();
+            for (Hunk change : changes) {
+                sizeBefore += change.removed.size() - change.added.size();
+            }
+
+            // the positions before the first touched one and the untouched positions at the end are left as is
+            int firstTouched = Integer.MAX_VALUE;
+            int untouchedTail = sizeBefore;
+            int size = sizeBefore;
+            for (Hunk change : changes) {
+                firstTouched = Math.min(firstTouched, change.index);
+                untouchedTail = Math.min(untouchedTail, size - change.index - change.removed.size());
+                size += change.added.size() - change.removed.size();
+            }
+
+            List<Person> after = currentPersons.toList(firstTouched, currentPersons.size() - untouchedTail);
+            List<Person> before = new ArrayList<>(after);
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                Hunk change = changes.get(i);
+                List<Person> changed = before.subList(change.index - firstTouched,
+                        change.index - firstTouched + change.added.size());
+                changed.clear();
+                changed.addAll(change.removed);
+            }
+            hunks = diff(before, after, firstTouched);
+        }
+        return new AddressBookDelta(hunks, difference(tagsBefore, tagsAfter), difference(tagsAfter, tagsBefore));
+    }
+
+    private static Set<Tag> difference(Collection<Tag> tags, Collection<Tag> toRemove) {
+        Set<Tag> difference = new HashSet<>(tags);
+        difference.removeAll(toRemove);
+        return difference;
+    }
+
+    /**
+     * Returns the hunks that turn {@code before} into {@code after}, which both start at {@code offset} in the
+     * person list.
+     */
+    private static List<Hunk> diff(List<Person> before, List<Person> after, int offset) {
+        return (before.size() == after.size())
+                ? diffSameSize(before, after, offset)
+                : diffDifferentSize(before, after, offset);
+    }
+
+    /**
+     * Groups every run of positions holding different persons into one hunk.
+     * Used when persons were only edited or reordered.
+     */
+    private static List<Hunk> diffSameSize(List<Person> before, List<Person> after, int offset) {
+        List<Hunk> hunks = new ArrayList<>();
+        int i = 0;
+        while (i < before.size()) {
+            if (before.get(i) == after.get(i)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < before.size() && before.get(i) != after.get(i)) {
+                i++;
+            }
+            hunks.add(new Hunk(offset + start, before.subList(start, i), after.subList(start, i)));
+        }
+        return hunks;
+    }
+
+    /**
+     * Returns a single hunk covering everything between the common prefix and the common suffix.
+     * Used when persons were added or removed.
+     */
+    private static List<Hunk> diffDifferentSize(List<Person> before, List<Person> after, int offset) {
+        int maxCommon = Math.min(before.size(), after.size());
+        int commonPrefix = 0;
+        while (commonPrefix < maxCommon && before.get(commonPrefix) == after.get(commonPrefix)) {
+            commonPrefix++;
+        }
+        int commonSuffix = 0;
+        while (commonSuffix < maxCommon - commonPrefix
+                && before.get(before.size() - 1 - commonSuffix) == after.get(after.size() - 1 - commonSuffix)) {
+            commonSuffix++;
+        }
+        return Collections.singletonList(new Hunk(offset + commonPrefix,
+                before.subList(commonPrefix, before.size() - commonSuffix),
+                after.subList(commonPrefix, after.size() - commonSuffix)));
+    }
+
+    /**
+     * Returns the delta that reverts the changes in this delta.
+     */
+    public AddressBookDelta inverse() {
+        List<Hunk> inverseHunks = new ArrayList<>();
+        for (Hunk hunk : hunks) {
+            inverseHunks.add(new Hunk(hunk.index, hunk.added, hunk.removed));
+        }
+        return new AddressBookDelta(inverseHunks, addedTags, removedTags);
+    }
+
+    /**
+     * Returns true if this delta does not change anything.
+     */
+    public boolean isEmpty() {
+        return hunks.isEmpty() && removedTags.isEmpty() && addedTags.isEmpty();
+    }
+
+    /**
+     * Returns a rough estimate of the memory retained by this delta, in bytes.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the ranges of persons replaced by this delta.
+     * The hunks are in ascending order of index, and each starts at the same index before and after the change.
+     */
+    public List<Hunk> getHunks() {
+        return hunks;
+    }
+
+    public Set<Tag> getRemovedTags() {
+        return removedTags;
+    }
+
+    public Set<Tag> getAddedTags() {
+        return addedTags;
+    }
+
+    private static long estimateSize(List<Hunk> hunks, Set<Tag> removedTags, Set<Tag> addedTags) {
+        long size = (removedTags.size() + addedTags.size()) * ESTIMATED_BYTES_PER_TAG;
+        for (Hunk hunk : hunks) {
+            for (ReadOnlyPerson person : hunk.removed) {
+                size += ESTIMATED_BYTES_PER_PERSON + 2L * person.getAsText().length();
+            }
+            for (ReadOnlyPerson person : hunk.added) {
+                size += ESTIMATED_BYTES_PER_PERSON + 2L * person.getAsText().length();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookDelta // instanceof handles nulls
+                && hunks.equals(((AddressBookDelta) other).hunks)
+                && removedTags.equals(((AddressBookDelta) other).removedTags)
+                && addedTags.equals(((AddressBookDelta) other).addedTags));
+    }
+
+    @Override
+    public int hashCode() {
+        return hunks.hashCode();
+    }
+
+    /**
+     * A range of persons starting at {@code index} that was replaced.
+     * {@code index} is the same before and after the change since earlier positions are untouched.
+     */
+    public static class Hunk {
+        final int index;
+        final List<Person> removed;
+        final List<Person> added;
+
+        Hunk(int index, List<? extends Person> removed, List<? extends Person> added) {
+            this.index = index;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<Person> getRemovedPersons() {
+            return removed;
+        }
+
+        public List<Person> getAddedPersons() {
+            return added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Hunk // instanceof handles nulls
+                    && index == ((Hunk) other).index
+                    && removed.equals(((Hunk) other).removed)
+                    && added.equals(((Hunk) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+
+    /**
+     * Signals that a delta was applied to an address book that is not in the state the delta was recorded from.
+     */
+    public static class StaleDeltaException extends Exception {
+        public StaleDeltaException() {
+            super("The address book has changed since this delta was recorded");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable point-in-time view of an {@code AddressBook}.
+ *
+ * The snapshot shares its {@code Person}, {@code Tag} and {@code Meeting} instances with the address book it was
+ * taken from instead of copying them. This is safe because an {@code AddressBook} never modifies a person once it is
+ * listed: edits replace the person, and each listed person gets its own copies of its meetings and has its tags
+ * synced before it is listed. Taking a snapshot therefore only copies object references, and restoring one with
+ * {@link AddressBook#resetData(ReadOnlyAddressBook)} only touches the persons that changed in between.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Person> persons;
+    private final List<Tag> tags;
+    private final List<Meeting> meetings;
+
+    /**
+     * Creates a snapshot that takes ownership of the given lists instead of copying them, so the caller must pass
+     * fresh copies and not modify them afterwards.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Tag> tags, List<Meeting> meetings) {
+        requireAllNonNull(persons, tags, meetings);
+        this.persons = Collections.unmodifiableList(persons);
+        this.tags = Collections.unmodifiableList(tags);
+        this.meetings = Collections.unmodifiableList(meetings);
+    }
+
+    /**
+     * Returns a snapshot of the current state of {@code addressBook}.
+     * Falls back to a full copy if {@code addressBook} is not backed by an {@code AddressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return new AddressBook(addressBook).snapshot();
+    }
+
+    /**
+     * Returns the persons of this snapshot, in list order.
+     */
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(Collections.<ReadOnlyPerson>unmodifiableList(persons)));
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    @Override
+    public ObservableList<Meeting> getMeetingList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(meetings));
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags";
+    }
+}
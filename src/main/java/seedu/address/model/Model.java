@@ -1,6 +1,8 @@
 package seedu.address.model;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.meeting.Meeting;
@@ -8,6 +10,8 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.TagNotFoundException;
+import seedu.address.model.person.predicate.KeywordsPredicate;
+import seedu.address.model.search.IndexedKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -26,6 +30,43 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Applies the changes recorded in {@code delta} to the address book.
+     *
+     * @throws AddressBookDelta.StaleDeltaException if the address book is not in the state {@code delta} was
+     *      recorded from.
+     */
+    void applyDelta(AddressBookDelta delta) throws AddressBookDelta.StaleDeltaException;
+
+    /**
+     * Starts recording the changes made to the address book, discarding any changes recorded so far.
+     */
+    void startRecordingChanges();
+
+    /**
+     * Stops recording changes, and returns the changes made to the address book since
+     * {@link #startRecordingChanges()}.
+     */
+    AddressBookDelta stopRecordingChanges();
+
+    /**
+     * Starts a batch of changes to the address book. Until {@link #endBatchChanges()} is called, the changes do not
+     * raise an {@code AddressBookChangedEvent} each.
+     */
+    void startBatchChanges();
+
+    /**
+     * Ends the batch of changes started by {@link #startBatchChanges()}, raising a single
+     * {@code AddressBookChangedEvent} if the address book was changed during the batch.
+     */
+    void endBatchChanges();
+
+    /**
+     * Ends the batch of changes started by {@link #startBatchChanges()} by undoing all of them, which leaves the
+     * address book as it was before the batch and raises no {@code AddressBookChangedEvent}.
+     */
+    void rollBackBatchChanges();
+
     /** Deletes the given person. */
     void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException;
 
@@ -65,6 +106,34 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
 
+    /**
+     * Narrows the filter of the filtered person list down to the persons it shows that also match the given
+     * {@code predicate}, without testing the persons it does not show. A limited list stays limited.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void refineFilteredPersonList(Predicate<ReadOnlyPerson> predicate);
+
+    /**
+     * Orders the filtered person list by the given {@code comparator}, until the filter is next updated.
+     * The list is in address book order otherwise.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateFilteredPersonListOrder(Comparator<ReadOnlyPerson> comparator);
+
+    /**
+     * Narrows the filtered person list down to the {@code limit} persons it shows with the highest
+     * {@code relevance}, ordered from the most relevant, until the filter is next updated.
+     * The persons are chosen again whenever the address book changes, so edited persons keep their place.
+     * @throws NullPointerException if {@code relevance} is null.
+     */
+    void limitFilteredPersonList(ToDoubleFunction<? super ReadOnlyPerson> relevance, int limit);
+
+    /**
+     * Returns a predicate that gives the same result as {@code predicate} for the persons in the address book,
+     * but looks the keywords up in the address book's search index instead of matching every person.
+     */
+    IndexedKeywordsPredicate getIndexedPredicate(KeywordsPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered meeting list */
     ObservableList<Meeting> getFilteredMeetingList();
 
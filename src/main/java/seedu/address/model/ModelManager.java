@@ -4,17 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
@@ -27,6 +31,8 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.TagNotFoundException;
+import seedu.address.model.person.predicate.KeywordsPredicate;
+import seedu.address.model.search.IndexedKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -38,7 +44,18 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final AddressBook addressBook;
     private final FilteredList<ReadOnlyPerson> filteredPersons;
+    private final SortedList<ReadOnlyPerson> orderedFilteredPersons;
+    private Predicate<ReadOnlyPerson> personListPredicate;
+    private PersonBitmapFilter personListFilter;
+    // the persons allowed by personListFilter that the list is limited to, or null if the list is not limited
+    private PersonRanking personListRanking;
+    // true if persons joined or left personListRanking without being added to or removed from the person list
+    private boolean isPersonListRankingChanged;
     private final FilteredList<Meeting> filteredMeeting;
+    private boolean inBatch;
+    private boolean changedInBatch;
+    // the state of the address book when the current batch started, or null if there is no batch
+    private AddressBookSnapshot addressBookBeforeBatch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -49,16 +66,12 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        Set<Meeting> meetingSet = new HashSet<Meeting>();
         this.addressBook = new AddressBook(addressBook);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        for (ReadOnlyPerson person : this.addressBook.getPersonList()) {
-            for (Meeting meeting : person.getMeetings()) {
-                meeting.setPerson(person);
-                meetingSet.add(meeting);
-            }
-        }
-        this.addressBook.setMeetings(meetingSet);
+        ObservableList<ReadOnlyPerson> persons = this.addressBook.getPersonList();
+        // listens before filteredPersons, so that added persons are ranked by the time they are filtered
+        persons.addListener(this::updatePersonListRanking);
+        filteredPersons = new FilteredList<>(persons);
+        orderedFilteredPersons = new SortedList<>(filteredPersons);
         filteredMeeting = new FilteredList<>(this.addressBook.getMeetingList());
     }
 
@@ -77,8 +90,55 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
-    private void indicateAddressBookChanged() {
+    @Override
+    public void applyDelta(AddressBookDelta delta) throws AddressBookDelta.StaleDeltaException {
+        addressBook.applyDelta(delta);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void startRecordingChanges() {
+        addressBook.startRecordingChanges();
+    }
+
+    @Override
+    public AddressBookDelta stopRecordingChanges() {
+        return addressBook.stopRecordingChanges();
+    }
+
+    @Override
+    public synchronized void startBatchChanges() {
+        inBatch = true;
+        addressBookBeforeBatch = addressBook.snapshot();
+    }
+
+    @Override
+    public synchronized void endBatchChanges() {
+        inBatch = false;
+        addressBookBeforeBatch = null;
+        if (changedInBatch) {
+            changedInBatch = false;
+            indicateAddressBookChanged();
+        }
+    }
+
+    @Override
+    public synchronized void rollBackBatchChanges() {
+        assert inBatch : "there should be a batch to roll back";
+        addressBook.resetData(addressBookBeforeBatch);
+        showChangedPersonListRanking();
+        inBatch = false;
+        changedInBatch = false;
+        addressBookBeforeBatch = null;
+    }
+
+    /** Raises an event to indicate the model has changed, or defers it to the end of the current batch */
+    private synchronized void indicateAddressBookChanged() {
+        showChangedPersonListRanking();
+        if (inBatch) {
+            changedInBatch = true;
+            return;
+        }
         raise(new AddressBookChangedEvent(addressBook));
     }
 
@@ -176,19 +236,109 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(orderedFilteredPersons);
     }
 
 
     @Override
     public Predicate<? super ReadOnlyPerson> getPersonListPredicate() {
-        return filteredPersons.getPredicate();
+        return personListPredicate;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS && isShowingAllPersonsInOrder()) {
+            // e.g. every add in a batch of adds, which would otherwise filter the whole list again each time
+            return;
+        }
+        personListPredicate = predicate;
+        setPersonListFilter(predicate == PREDICATE_SHOW_ALL_PERSONS
+                ? PersonBitmapFilter.showAll(addressBook.getSearchIndex())
+                : PersonBitmapFilter.filter(addressBook.getSearchIndex(), addressBook.getPersonList(), predicate));
+    }
+
+    @Override
+    public void refineFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
+        requireNonNull(predicate);
+        if (personListFilter == null) {
+            updateFilteredPersonList(predicate);
+            return;
+        }
+        personListPredicate = predicate.and(personListPredicate);
+        PersonRanking ranking = personListRanking;
+        setPersonListFilter(personListFilter.refine(filteredPersons, predicate));
+        if (ranking != null) {
+            limitFilteredPersonList(ranking.getRelevance(), ranking.getLimit());
+        }
+    }
+
+    private boolean isShowingAllPersonsInOrder() {
+        return personListPredicate == PREDICATE_SHOW_ALL_PERSONS && orderedFilteredPersons.getComparator() == null;
+    }
+
+    private void setPersonListFilter(PersonBitmapFilter filter) {
+        personListFilter = filter;
+        personListRanking = null;
+        filteredPersons.setPredicate(filter);
+        orderedFilteredPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonListOrder(Comparator<ReadOnlyPerson> comparator) {
+        requireNonNull(comparator);
+        orderedFilteredPersons.setComparator(comparator);
+    }
+
+    @Override
+    public void limitFilteredPersonList(ToDoubleFunction<? super ReadOnlyPerson> relevance, int limit) {
+        requireNonNull(relevance);
+        Predicate<? super ReadOnlyPerson> filter =
+                personListFilter == null ? PREDICATE_SHOW_ALL_PERSONS : personListFilter;
+        personListRanking = new PersonRanking(filter, relevance, limit, addressBook.getPersonList());
+        showPersonListRanking();
+    }
+
+    /**
+     * Ranks the persons added to the person list by {@code change} while the filtered person list is limited.
+     * The filtered person list cannot be filtered again until it has seen the change too, so persons that joined
+     * or left the ranking otherwise are only shown by {@link #showChangedPersonListRanking()}.
+     */
+    private void updatePersonListRanking(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        if (personListRanking == null) {
+            return;
+        }
+        List<ReadOnlyPerson> removed = new ArrayList<>();
+        List<ReadOnlyPerson> added = new ArrayList<>();
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        }
+        if (personListRanking.update(removed, added, addressBook.getPersonList())) {
+            isPersonListRankingChanged = true;
+        }
+    }
+
+    private void showChangedPersonListRanking() {
+        if (personListRanking != null && isPersonListRankingChanged) {
+            showPersonListRanking();
+        }
+    }
+
+    private void showPersonListRanking() {
+        isPersonListRankingChanged = false;
+        // a new predicate each time, as the filtered list ignores a predicate it already has
+        filteredPersons.setPredicate(personListRanking::test);
+        orderedFilteredPersons.setComparator(personListRanking.comparator());
+    }
+
+    @Override
+    public IndexedKeywordsPredicate getIndexedPredicate(KeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedKeywordsPredicate(addressBook.getSearchIndex(), predicate.getField(),
+                predicate.getKeywords());
     }
 
     //=========== Filtered Meeting List Accessors =============================================================
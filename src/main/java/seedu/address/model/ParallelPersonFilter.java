@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Tests lists of persons against a predicate, in parallel for large lists.
+ *
+ * {@code FilteredList} tests every person on the thread that sets its predicate, which is the FX thread. Lists of
+ * at least {@code PARALLEL_THRESHOLD} persons are instead partitioned across the common {@code ForkJoinPool}, with
+ * the calling thread testing a share of the persons too, and the bitmap of the matching persons is then applied to
+ * the filtered list in a single update. Predicates given here may be tested from several threads at once.
+ */
+public class ParallelPersonFilter {
+
+    public static final int PARALLEL_THRESHOLD = 10000;
+    // a multiple of 64, so that no two batches set bits in the same word of the bitmap
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * Returns a bitmap with the bit of each person in {@code persons} that matches {@code predicate} set, testing
+     * the persons in parallel if there are at least {@code PARALLEL_THRESHOLD} of them.
+     */
+    public static BitSet evaluate(List<? extends ReadOnlyPerson> persons, Predicate<? super ReadOnlyPerson> predicate) {
+        return evaluate(persons, predicate, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns a bitmap with the bit of each person in {@code persons} that matches {@code predicate} set, testing
+     * the persons in parallel if there are at least {@code threshold} of them.
+     */
+    static BitSet evaluate(List<? extends ReadOnlyPerson> persons, Predicate<? super ReadOnlyPerson> predicate,
+                           int threshold) {
+        requireAllNonNull(persons, predicate);
+        if (persons.isEmpty() || persons.size() < threshold) {
+            BitSet matches = new BitSet(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                matches.set(i, predicate.test(persons.get(i)));
+            }
+            return matches;
+        }
+
+        ReadOnlyPerson[] personArray = persons.toArray(new ReadOnlyPerson[0]);
+        long[] words = new long[(personArray.length + Long.SIZE - 1) / Long.SIZE];
+        // tested once on this thread, so that state the predicate builds lazily is not built by every worker
+        predicate.test(personArray[0]);
+        // run on this thread, forking halves to the common pool, rather than idling while the pool runs it
+        new EvaluateTask(personArray, predicate, words, 0, personArray.length).invoke();
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Tests the persons from {@code from} (inclusive) to {@code to} (exclusive), setting the bits of the matching
+     * ones in {@code words}. {@code from} is always a multiple of 64.
+     */
+    private static class EvaluateTask extends RecursiveAction {
+        private final ReadOnlyPerson[] persons;
+        private final Predicate<? super ReadOnlyPerson> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(ReadOnlyPerson[] persons, Predicate<? super ReadOnlyPerson> predicate, long[] words,
+                     int from, int to) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(persons[i])) {
+                        words[i / Long.SIZE] |= 1L << i;
+                    }
+                }
+                return;
+            }
+            int middle = (from + (to - from) / 2) / Long.SIZE * Long.SIZE;
+            invokeAll(new EvaluateTask(persons, predicate, words, from, middle),
+                    new EvaluateTask(persons, predicate, words, middle, to));
+        }
+    }
+}
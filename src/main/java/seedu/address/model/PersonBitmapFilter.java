@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.PersonSearchIndex;
+
+/**
+ * The persons shown by the filtered person list, kept as a bitmap over the ordinals that a
+ * {@link PersonSearchIndex} gives persons.
+ *
+ * Narrowing a filter down only tests the persons it shows, so successive refinements intersect the bitmap instead
+ * of testing every person against an ever longer chain of predicates. Persons indexed after the bitmap was
+ * computed, such as edited or added persons, have no bit in it and are tested against the predicates the filter
+ * was built from instead.
+ */
+class PersonBitmapFilter implements Predicate<ReadOnlyPerson> {
+
+    private final PersonSearchIndex index;
+    private final Predicate<ReadOnlyPerson> predicate;
+    // null if every person is shown
+    private final BitSet shownOrdinals;
+    private final long ordinalGeneration;
+    private final int ordinalLimit;
+
+    private PersonBitmapFilter(PersonSearchIndex index, Predicate<ReadOnlyPerson> predicate, BitSet shownOrdinals) {
+        this.index = index;
+        this.predicate = predicate;
+        this.shownOrdinals = shownOrdinals;
+        this.ordinalGeneration = index.getOrdinalGeneration();
+        this.ordinalLimit = index.getOrdinalLimit();
+    }
+
+    /**
+     * Returns a filter that shows every person indexed in {@code index}.
+     */
+    static PersonBitmapFilter showAll(PersonSearchIndex index) {
+        requireNonNull(index);
+        return new PersonBitmapFilter(index, Model.PREDICATE_SHOW_ALL_PERSONS, null);
+    }
+
+    /**
+     * Returns a filter that shows the persons of {@code persons}, which are indexed in {@code index}, that match
+     * {@code predicate}.
+     */
+    static PersonBitmapFilter filter(PersonSearchIndex index, List<? extends ReadOnlyPerson> persons,
+                                     Predicate<ReadOnlyPerson> predicate) {
+        requireAllNonNull(index, persons, predicate);
+        return new PersonBitmapFilter(index, predicate, toOrdinals(index, persons, predicate));
+    }
+
+    /**
+     * Returns a filter that shows the persons shown by this filter that also match {@code refinement}, where
+     * {@code shownPersons} are the persons this filter shows.
+     */
+    PersonBitmapFilter refine(List<? extends ReadOnlyPerson> shownPersons, Predicate<ReadOnlyPerson> refinement) {
+        requireAllNonNull(shownPersons, refinement);
+        return new PersonBitmapFilter(index, refinement.and(predicate), toOrdinals(index, shownPersons, refinement));
+    }
+
+    /**
+     * Returns the ordinals of the persons of {@code persons} that match {@code predicate}.
+     */
+    private static BitSet toOrdinals(PersonSearchIndex index, List<? extends ReadOnlyPerson> persons,
+                                     Predicate<ReadOnlyPerson> predicate) {
+        BitSet matches = ParallelPersonFilter.evaluate(persons, predicate);
+        BitSet ordinals = new BitSet(index.getOrdinalLimit());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            int ordinal = index.getOrdinal(persons.get(i));
+            assert ordinal >= 0 : "filtered persons should be indexed";
+            ordinals.set(ordinal);
+        }
+        return ordinals;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        if (shownOrdinals == null) {
+            return true;
+        }
+        int ordinal = index.getOrdinal(person);
+        if (ordinal < 0 || ordinal >= ordinalLimit || ordinalGeneration != index.getOrdinalGeneration()) {
+            return predicate.test(person);
+        }
+        return shownOrdinals.get(ordinal);
+    }
+}
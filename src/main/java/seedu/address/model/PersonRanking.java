@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * The persons allowed by a filter with the highest relevance, at most a limit of them, as shown by the filtered
+ * person list while it is limited.
+ *
+ * Changes to the person list only score the persons they add, and persons that stay ranked keep their relevance.
+ * Every person is ranked again only when a change leaves a place in the ranking that a person outside it could take.
+ */
+class PersonRanking implements Predicate<ReadOnlyPerson> {
+
+    private final Predicate<? super ReadOnlyPerson> filter;
+    private final ToDoubleFunction<? super ReadOnlyPerson> relevance;
+    private final int limit;
+    private final Map<ReadOnlyPerson, Rank> ranks = new IdentityHashMap<>();
+    // at least the number of persons allowed by the filter that are not ranked; only exact after ranking every person
+    private int unrankedCount;
+    private long nextOrder;
+
+    /**
+     * Ranks the persons of {@code persons} allowed by {@code filter} by {@code relevance}.
+     */
+    PersonRanking(Predicate<? super ReadOnlyPerson> filter, ToDoubleFunction<? super ReadOnlyPerson> relevance,
+                  int limit, List<? extends ReadOnlyPerson> persons) {
+        requireAllNonNull(filter, relevance, persons);
+        this.filter = filter;
+        this.relevance = relevance;
+        this.limit = limit;
+        rankAll(persons);
+    }
+
+    ToDoubleFunction<? super ReadOnlyPerson> getRelevance() {
+        return relevance;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns true if {@code person} is ranked.
+     */
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return ranks.containsKey(person);
+    }
+
+    /**
+     * Returns a comparator that orders ranked persons from the most relevant.
+     */
+    Comparator<ReadOnlyPerson> comparator() {
+        return (first, second) -> getRank(first).compareTo(getRank(second));
+    }
+
+    /**
+     * Updates the ranking after {@code removed} were removed from and {@code added} were added to the person list,
+     * which now holds {@code persons}.
+     * @return true if persons that were neither removed nor added joined or left the ranking.
+     */
+    boolean update(List<? extends ReadOnlyPerson> removed, List<? extends ReadOnlyPerson> added,
+                   List<? extends ReadOnlyPerson> persons) {
+        Rank lowestBeforeChange = ranks.values().stream().max(Rank::compareTo).orElse(null);
+        removed.forEach(ranks::remove);
+
+        Set<ReadOnlyPerson> addedToRanks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReadOnlyPerson person : added) {
+            if (filter.test(person)) {
+                ranks.put(person, new Rank(relevance.applyAsDouble(person), nextOrder++));
+                addedToRanks.add(person);
+            }
+        }
+
+        boolean isRankingChanged = false;
+        if (ranks.size() > limit) {
+            List<ReadOnlyPerson> rankedPersons = new ArrayList<>(ranks.keySet());
+            rankedPersons.sort(comparator());
+            for (ReadOnlyPerson person : rankedPersons.subList(limit, rankedPersons.size())) {
+                ranks.remove(person);
+                unrankedCount++;
+                isRankingChanged |= !addedToRanks.contains(person);
+            }
+        }
+
+        // persons outside the ranking before the change are no more relevant than its lowest ranked person then,
+        // so they only deserve a place that is left empty or that an added person took with no more relevance
+        boolean canOutsiderJoin = unrankedCount > 0 && (ranks.size() < limit || addedToRanks.stream()
+                .filter(ranks::containsKey)
+                .anyMatch(person -> !(getRank(person).score > lowestBeforeChange.score)));
+        if (canOutsiderJoin) {
+            rankAll(persons);
+            return true;
+        }
+        return isRankingChanged;
+    }
+
+    private void rankAll(List<? extends ReadOnlyPerson> persons) {
+        List<ReadOnlyPerson> candidates = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            if (filter.test(person)) {
+                candidates.add(person);
+            }
+        }
+        List<ReadOnlyPerson> mostRelevant = CollectionUtil.topK(candidates, relevance, limit);
+        ranks.clear();
+        nextOrder = 0;
+        for (ReadOnlyPerson person : mostRelevant) {
+            ranks.put(person, new Rank(relevance.applyAsDouble(person), nextOrder++));
+        }
+        unrankedCount = candidates.size() - mostRelevant.size();
+    }
+
+    private Rank getRank(ReadOnlyPerson person) {
+        return ranks.getOrDefault(person, Rank.UNRANKED);
+    }
+
+    /**
+     * The relevance of a ranked person, and the order it joined the ranking in to break ties.
+     */
+    private static class Rank implements Comparable<Rank> {
+        private static final Rank UNRANKED = new Rank(Double.NEGATIVE_INFINITY, Long.MAX_VALUE);
+
+        private final double score;
+        private final long order;
+
+        Rank(double score, long order) {
+            this.score = score;
+            this.order = order;
+        }
+
+        /**
+         * Orders the more relevant rank first, then the one that joined the ranking first.
+         */
+        @Override
+        public int compareTo(Rank other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : Long.compare(order, other.order);
+        }
+    }
+}
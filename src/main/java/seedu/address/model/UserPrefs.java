@@ -9,9 +9,21 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final String STORAGE_FORMAT_XML = "xml";
+    public static final String STORAGE_FORMAT_JOURNAL = "journal";
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+    public static final int DEFAULT_UNDO_HISTORY_MAX_DEPTH = 1000;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/addressbook.xml";
     private String addressBookName = "MyAddressBook";
+    private String addressBookStorageFormat = STORAGE_FORMAT_XML;
+    private boolean addressBookAtomicSave = true;
+    private long addressBookSaveDelayMillis = 200;
+    private long addressBookMaxSaveDelayMillis = 1000;
+    private int undoHistoryMaxDepth = DEFAULT_UNDO_HISTORY_MAX_DEPTH;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
 
     public UserPrefs() {
         this.setGuiSettings(700, 500, 0, 0);
@@ -45,6 +57,54 @@ public class UserPrefs {
         this.addressBookName = addressBookName;
     }
 
+    public String getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(String addressBookStorageFormat) {
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    public boolean isAddressBookAtomicSave() {
+        return addressBookAtomicSave;
+    }
+
+    public void setAddressBookAtomicSave(boolean addressBookAtomicSave) {
+        this.addressBookAtomicSave = addressBookAtomicSave;
+    }
+
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
+    public long getAddressBookMaxSaveDelayMillis() {
+        return addressBookMaxSaveDelayMillis;
+    }
+
+    public void setAddressBookMaxSaveDelayMillis(long addressBookMaxSaveDelayMillis) {
+        this.addressBookMaxSaveDelayMillis = addressBookMaxSaveDelayMillis;
+    }
+
+    public int getUndoHistoryMaxDepth() {
+        return undoHistoryMaxDepth;
+    }
+
+    public void setUndoHistoryMaxDepth(int undoHistoryMaxDepth) {
+        this.undoHistoryMaxDepth = undoHistoryMaxDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -58,12 +118,20 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookName, o.addressBookName)
+                && Objects.equals(addressBookStorageFormat, o.addressBookStorageFormat)
+                && addressBookAtomicSave == o.addressBookAtomicSave
+                && addressBookSaveDelayMillis == o.addressBookSaveDelayMillis
+                && addressBookMaxSaveDelayMillis == o.addressBookMaxSaveDelayMillis
+                && undoHistoryMaxDepth == o.undoHistoryMaxDepth
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, addressBookStorageFormat,
+                addressBookAtomicSave, addressBookSaveDelayMillis, addressBookMaxSaveDelayMillis, undoHistoryMaxDepth,
+                undoHistoryMaxBytes);
     }
 
     @Override
@@ -72,6 +140,11 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nAtomic saves : " + addressBookAtomicSave);
+        sb.append("\nSave delay : " + addressBookSaveDelayMillis + " ms, at most " + addressBookMaxSaveDelayMillis
+                + " ms");
+        sb.append("\nUndo history limits : " + undoHistoryMaxDepth + " commands, " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
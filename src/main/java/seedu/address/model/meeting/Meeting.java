@@ -20,6 +20,10 @@ public class Meeting {
 
     public static final String MESSAGE_TIME_CONSTRAINTS = "Time format should be YYYY-MM-DD HH:MM";
 
+    private static final DateTimeFormatter STRICT_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     public final LocalDateTime date;
     public final String value;
     public final String meetingName;
@@ -42,12 +46,10 @@ public class Meeting {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
         }
         String trimmedTime = time.trim();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
-                .withResolverStyle(ResolverStyle.STRICT);
         try {
-            LocalDateTime date = LocalDateTime.parse(trimmedTime, formatter);
+            LocalDateTime date = LocalDateTime.parse(trimmedTime, STRICT_TIME_FORMATTER);
             this.date = date;
-            value = date.format(formatter);
+            value = date.format(STRICT_TIME_FORMATTER);
             this.displayValue = new SimpleObjectProperty<>(value);
         } catch (DateTimeParseException dtpe) {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
@@ -65,11 +67,10 @@ public class Meeting {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
         }
         String trimmedTime = time.trim();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         try {
-            LocalDateTime date = LocalDateTime.parse(trimmedTime, formatter);
+            LocalDateTime date = LocalDateTime.parse(trimmedTime, TIME_FORMATTER);
             this.date = date;
-            value = date.format(formatter);
+            value = date.format(TIME_FORMATTER);
             this.displayValue = new SimpleObjectProperty<>(value);
         } catch (DateTimeParseException dtpe) {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
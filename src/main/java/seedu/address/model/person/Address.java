@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -16,6 +18,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
     public static final String NO_ADDRESS = "No Address";
 
     public final String value;
@@ -39,7 +42,7 @@ public class Address {
      * Returns true if a given string is a valid person email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX) || test.matches(NO_ADDRESS);
+        return ADDRESS_VALIDATION_PATTERN.matcher(test).matches() || test.equals(NO_ADDRESS);
     }
 
     @Override
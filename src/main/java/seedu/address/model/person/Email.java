@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
@@ -11,6 +13,7 @@ public class Email {
     public static final String MESSAGE_EMAIL_CONSTRAINTS =
             "Person emails should be 2 alphanumeric/period strings separated by '@'";
     public static final String EMAIL_VALIDATION_REGEX = "[\\w\\.]+@[\\w\\.]+";
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
     public static final String NO_EMAIL = "No Email";
 
     public final String value;
@@ -35,7 +38,7 @@ public class Email {
      * Returns if a given string is a valid person email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX) || test.matches(NO_EMAIL);
+        return EMAIL_VALIDATION_PATTERN.matcher(test).matches() || test.equals(NO_EMAIL);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 
 //@@author derrickchua
@@ -13,6 +15,7 @@ public class LastUpdated {
 
     public static final String LASTUPDATED_VALIDATION_REGEX = "\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[1-2]\\d|3[0-1])T"
             + "(?:[0-1]\\d|2[0-3]):[0-5]\\d:[0-5]\\d.\\d{3,6}Z";
+    private static final Pattern LASTUPDATED_VALIDATION_PATTERN = Pattern.compile(LASTUPDATED_VALIDATION_REGEX);
 
     private String value;
 
@@ -27,7 +30,7 @@ public class LastUpdated {
     }
 
     public static boolean isValidLastUpdated(String test) {
-        return test.matches(LASTUPDATED_VALIDATION_REGEX);
+        return LASTUPDATED_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String getValue() {
@@ -1,22 +1,28 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.fxmisc.easybind.EasyBind;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -29,16 +35,29 @@ import seedu.address.model.tag.Tag;
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    // the number of removals after which the positions they shifted are corrected
+    private static final int MAX_STALE_REMOVALS = 64;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // hash index from the same persons as internalList to their positions in it, used for constant time duplicate
+    // detection and lookup. internalList remains the source of truth for ordering and for the UI.
+    // A removal shifts the persons after it down without updating their positions, so a position from staleFrom on
+    // may be too large by up to removedSinceReindex, and lookups look that far back for the person.
+    private final Map<Person, Integer> personPositions = new HashMap<>();
+    private int staleFrom = Integer.MAX_VALUE;
+    private int removedSinceReindex;
+    // word index over the same persons, used by keyword searches. It is updated before internalList is changed, so
+    // that listeners of internalList already see the change in it.
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return personPositions.containsKey(asIndexKey(toCheck));
     }
 
     /**
@@ -51,7 +70,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        Person newPerson = copyOf(toAdd);
+        searchIndex.add(newPerson);
+        internalList.add(newPerson);
+        personPositions.put(newPerson, internalList.size() - 1);
     }
 
     /**
@@ -64,16 +86,39 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = (target == null) ? -1 : indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        Person oldPerson = internalList.get(index);
+        Person newPerson = copyOf(editedPerson);
+        searchIndex.remove(oldPerson);
+        searchIndex.add(newPerson);
+        personPositions.remove(oldPerson);
+        internalList.set(index, newPerson);
+        personPositions.put(newPerson, index);
+    }
+
+    /**
+     * Returns a copy of {@code person} to keep in the list, whose meetings are copies pointing to the copy.
+     * The meetings are copied rather than pointed to the copy, as other persons, such as the persons of address
+     * book snapshots, may still hold them.
+     */
+    private static Person copyOf(ReadOnlyPerson person) {
+        Person copy = new Person(person);
+        Set<Meeting> meetings = new HashSet<>();
+        for (Meeting meeting : person.getMeetings()) {
+            Meeting meetingCopy = new Meeting(meeting);
+            meetingCopy.setPerson(copy);
+            meetings.add(meetingCopy);
+        }
+        copy.setMeetings(meetings);
+        return copy;
     }
 
     /**
@@ -83,25 +128,115 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        Person removed = internalList.get(index);
+        searchIndex.remove(removed);
+        internalList.remove(index);
+        personPositions.remove(removed);
+        staleFrom = Math.min(staleFrom, index);
+        if (++removedSinceReindex > MAX_STALE_REMOVALS) {
+            reindexFrom(staleFrom);
+        }
+        return true;
     }
 
     public void setPersons(UniquePersonList replacement) {
+        this.searchIndex.clear();
+        replacement.internalList.forEach(this.searchIndex::add);
         this.internalList.setAll(replacement.internalList);
+        this.personPositions.clear();
+        reindexFrom(0);
     }
 
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
         final UniquePersonList replacement = new UniquePersonList();
         for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+            replacement.add(person);
         }
         setPersons(replacement);
     }
 
+    /**
+     * Returns true if the persons starting at {@code fromIndex} are exactly the instances in {@code persons}.
+     */
+    public boolean hasPersonsAt(int fromIndex, List<Person> persons) {
+        requireNonNull(persons);
+        if (fromIndex < 0 || fromIndex + persons.size() > internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (internalList.get(fromIndex + i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at {@code fromIndex} with {@code replacement}, reusing the given
+     * instances instead of copying them, so listeners are only notified about the replaced range.
+     * The given persons must not be equivalent to any other person left in the list, and must not be modified
+     * afterwards.
+     */
+    public void replacePersons(int fromIndex, int count, List<Person> replacement) {
+        requireAllNonNull(replacement);
+        List<Person> removed = new ArrayList<>(internalList.subList(fromIndex, fromIndex + count));
+        removed.forEach(searchIndex::remove);
+        replacement.forEach(searchIndex::add);
+        removed.forEach(personPositions::remove);
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                internalList.set(fromIndex + i, replacement.get(i));
+                personPositions.put(replacement.get(i), fromIndex + i);
+            }
+        } else {
+            internalList.remove(fromIndex, fromIndex + count);
+            internalList.addAll(fromIndex, replacement);
+            // the persons after the range moved too
+            reindexFrom(Math.min(staleFrom, fromIndex));
+        }
+        assert personPositions.size() == internalList.size() : "replacement persons should be unique";
+    }
+
+    /**
+     * Returns all persons in this list as a List, in list order.
+     * This list is mutable and change-insulated against the internal list, but shares its {@code Person} instances.
+     */
+    public List<Person> toList() {
+        return new ArrayList<>(internalList);
+    }
+
+    /**
+     * Returns the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a List.
+     * This list is mutable and change-insulated against the internal list, but shares its {@code Person} instances.
+     */
+    public List<Person> toList(int fromIndex, int toIndex) {
+        return new ArrayList<>(internalList.subList(fromIndex, toIndex));
+    }
+
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Adds a listener that is notified of every change to the instances in this list or to their order.
+     */
+    public void addListener(ListChangeListener<? super Person> listener) {
+        requireNonNull(listener);
+        internalList.addListener(listener);
+    }
+
+    /**
+     * Returns the word index over the persons in this list, which is kept up to date as the list changes.
+     * The index must not be modified by the caller.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -109,6 +244,47 @@ public class UniquePersonList implements Iterable<Person> {
         return FXCollections.unmodifiableObservableList(mappedList);
     }
 
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is none.
+     */
+    private int indexOf(ReadOnlyPerson person) {
+        Person key = asIndexKey(person);
+        Integer position = personPositions.get(key);
+        if (position == null) {
+            return -1;
+        }
+        if (position < staleFrom) {
+            return position;
+        }
+        int lowest = Math.max(position - removedSinceReindex, 0);
+        for (int i = Math.min(position, internalList.size() - 1); i >= lowest; i--) {
+            if (internalList.get(i).equals(key)) {
+                return i;
+            }
+        }
+        throw new AssertionError("personPositions should be consistent with internalList");
+    }
+
+    /**
+     * Records the positions of the persons from {@code fromIndex} to the end of the list, after which every
+     * position in {@link #personPositions} is exact.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            personPositions.put(internalList.get(i), i);
+        }
+        staleFrom = Integer.MAX_VALUE;
+        removedSinceReindex = 0;
+    }
+
+    /**
+     * Returns {@code person} in a form that can be looked up in {@link #personPositions}.
+     * Only {@code Person} implements {@code hashCode} consistently with {@code ReadOnlyPerson#isSameStateAs}.
+     */
+    private static Person asIndexKey(ReadOnlyPerson person) {
+        return (person instanceof Person) ? (Person) person : new Person(person);
+    }
+
     //@@author alexanderleegs
     /**
      * Sorts the list by field.
@@ -136,6 +312,7 @@ public class UniquePersonList implements Iterable<Person> {
         default:
             throw new AssertionError("Sort field should always be valid");
         }
+        reindexFrom(0);
     }
 
     /**
@@ -1,41 +1,48 @@
 package seedu.address.model.person.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.address.logic.parser.ArgumentWildcardMatcher;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
 
 //@@author newalter
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
-    private final List<String> keywords;
+public class AddressContainsKeywordsPredicate implements KeywordsPredicate {
+    private final List<String> rawKeywords;
+    private final Pattern keywordsPattern;
 
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = ArgumentWildcardMatcher.processKeywords(keywords);
+        this.rawKeywords = keywords;
+        this.keywordsPattern = WildcardMatcher.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        for (String address : person.getAddress().value.split("\\s+")) {
-            for (String keyword : keywords) {
-                if (address.toLowerCase().matches(keyword)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return WildcardMatcher.matchesAnyWord(keywordsPattern, person.getAddress().value);
     }
 
 
+    @Override
+    public SearchField getField() {
+        return SearchField.ADDRESS;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return rawKeywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddressContainsKeywordsPredicate // instanceof handles nulls
-                && this.keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
+                && keywordsPattern.pattern()
+                .equals(((AddressContainsKeywordsPredicate) other).keywordsPattern.pattern())); // state check
     }
 
 }
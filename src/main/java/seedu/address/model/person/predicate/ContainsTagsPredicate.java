@@ -1,40 +1,52 @@
 package seedu.address.model.person.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.address.logic.parser.ArgumentWildcardMatcher;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
 import seedu.address.model.tag.Tag;
 
 //@@author newalter
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Tags} matches any of the tags given.
  */
-public class ContainsTagsPredicate implements Predicate<ReadOnlyPerson> {
-    private final List<String> keywords;
+public class ContainsTagsPredicate implements KeywordsPredicate {
+    private final List<String> rawKeywords;
+    private final Pattern keywordsPattern;
 
     public ContainsTagsPredicate(List<String> keywords) {
-        this.keywords = ArgumentWildcardMatcher.processKeywords(keywords);
+        this.rawKeywords = keywords;
+        this.keywordsPattern = WildcardMatcher.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
         for (Tag tag : person.getTags()) {
-            for (String keyword : keywords) {
-                if (tag.tagName.toLowerCase().matches(keyword)) {
-                    return true;
-                }
+            if (keywordsPattern.matcher(tag.tagName.toLowerCase()).matches()) {
+                return true;
             }
         }
         return false;
     }
 
+    @Override
+    public SearchField getField() {
+        return SearchField.TAG;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return rawKeywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ContainsTagsPredicate // instanceof handles nulls
-                && this.keywords.equals(((ContainsTagsPredicate) other).keywords)); // state check
+                && keywordsPattern.pattern()
+                .equals(((ContainsTagsPredicate) other).keywordsPattern.pattern())); // state check
     }
 
 }
@@ -1,35 +1,48 @@
 package seedu.address.model.person.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.address.logic.parser.ArgumentWildcardMatcher;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
 
 //@@author newalter
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
-    private final List<String> keywords;
+public class EmailContainsKeywordsPredicate implements KeywordsPredicate {
+    private final List<String> rawKeywords;
+    private final Pattern keywordsPattern;
 
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = ArgumentWildcardMatcher.processKeywords(keywords);
+        this.rawKeywords = keywords;
+        this.keywordsPattern = WildcardMatcher.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        String email = person.getEmail().value;
-        return keywords.stream().anyMatch(email.toLowerCase()::matches);
+        return keywordsPattern.matcher(person.getEmail().value.toLowerCase()).matches();
     }
 
 
+    @Override
+    public SearchField getField() {
+        return SearchField.EMAIL;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return rawKeywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EmailContainsKeywordsPredicate // instanceof handles nulls
-                && this.keywords.equals(((EmailContainsKeywordsPredicate) other).keywords)); // state check
+                && keywordsPattern.pattern()
+                .equals(((EmailContainsKeywordsPredicate) other).keywordsPattern.pattern())); // state check
     }
 
 }
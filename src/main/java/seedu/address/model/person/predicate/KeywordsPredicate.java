@@ -0,0 +1,19 @@
+package seedu.address.model.person.predicate;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.SearchField;
+
+/**
+ * Tests that a {@code ReadOnlyPerson}'s {@code SearchField} matches any of the keywords given.
+ */
+public interface KeywordsPredicate extends Predicate<ReadOnlyPerson> {
+
+    /** Returns the field that the keywords are matched against. */
+    SearchField getField();
+
+    /** Returns the keywords as given, which may contain the wildcard symbols "*" and "?". */
+    List<String> getKeywords();
+}
@@ -1,27 +1,49 @@
 package seedu.address.model.person.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
-import seedu.address.logic.parser.ArgumentWildcardMatcher;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.EditDistance;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
 
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Name} matches any of the keywords given.
+ * Fuzzy keywords such as "jonh~" match words within a small number of edits of them.
  */
-public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
-    private final List<String> keywords;
+public class NameContainsKeywordsPredicate implements KeywordsPredicate {
+    private final List<String> rawKeywords;
+    private final Pattern keywordsPattern;
+    private final List<String> fuzzyKeywords;
 
     //@@author newalter
     public NameContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = ArgumentWildcardMatcher.processKeywords(keywords);
+        this.rawKeywords = keywords;
+        this.keywordsPattern = WildcardMatcher.compileKeywords(keywords.stream()
+                .filter(keyword -> !WildcardMatcher.isFuzzy(keyword)).collect(Collectors.toList()));
+        this.fuzzyKeywords = keywords.stream().filter(WildcardMatcher::isFuzzy).map(String::toLowerCase)
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        for (String name : person.getName().fullName.split("\\s+")) {
-            for (String keyword : keywords) {
-                if (name.toLowerCase().matches(keyword)) {
+        String name = person.getName().fullName;
+        return WildcardMatcher.matchesAnyWord(keywordsPattern, name) || isWithinEditDistance(name);
+    }
+
+    /**
+     * Returns true if any word of {@code name} is within the edit distance of a fuzzy keyword.
+     */
+    private boolean isWithinEditDistance(String name) {
+        if (fuzzyKeywords.isEmpty()) {
+            return false;
+        }
+        for (String word : WildcardMatcher.splitWords(name)) {
+            for (String keyword : fuzzyKeywords) {
+                if (EditDistance.between(WildcardMatcher.getFuzzyWord(keyword), word)
+                        <= WildcardMatcher.getMaxEditDistance(keyword)) {
                     return true;
                 }
             }
@@ -30,11 +52,23 @@ public class NameContainsKeywordsPredicate implements Predicate<ReadOnlyPerson>
     }
     //@@author
 
+    @Override
+    public SearchField getField() {
+        return SearchField.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return rawKeywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
-                && this.keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
+                && keywordsPattern.pattern()
+                .equals(((NameContainsKeywordsPredicate) other).keywordsPattern.pattern())
+                && fuzzyKeywords.equals(((NameContainsKeywordsPredicate) other).fuzzyKeywords)); // state check
     }
 
 }
@@ -1,35 +1,48 @@
 package seedu.address.model.person.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.address.logic.parser.ArgumentWildcardMatcher;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
 
 //@@author newalter
 /**
  * Tests that a {@code ReadOnlyPerson}'s {@code Phone} matches any of the keywords given.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<ReadOnlyPerson> {
-    private final List<String> keywords;
+public class PhoneContainsKeywordsPredicate implements KeywordsPredicate {
+    private final List<String> rawKeywords;
+    private final Pattern keywordsPattern;
 
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = ArgumentWildcardMatcher.processKeywords(keywords);
+        this.rawKeywords = keywords;
+        this.keywordsPattern = WildcardMatcher.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(ReadOnlyPerson person) {
-        String phone = person.getPhone().value;
-        return keywords.stream().anyMatch(phone::matches);
+        return keywordsPattern.matcher(person.getPhone().value).matches();
     }
 
 
+    @Override
+    public SearchField getField() {
+        return SearchField.PHONE;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return rawKeywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PhoneContainsKeywordsPredicate // instanceof handles nulls
-                && this.keywords.equals(((PhoneContainsKeywordsPredicate) other).keywords)); // state check
+                && keywordsPattern.pattern()
+                .equals(((PhoneContainsKeywordsPredicate) other).keywordsPattern.pattern())); // state check
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.model.search;
+
+/**
+ * Computes the Levenshtein distance between words, which is the least number of single character insertions,
+ * deletions and substitutions that turn one word into the other.
+ */
+public class EditDistance {
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}.
+     */
+    public static int between(String first, String second) {
+        int[] row = initialRow(second.length());
+        for (int i = 0; i < first.length(); i++) {
+            row = nextRow(row, second, first.charAt(i));
+        }
+        return row[second.length()];
+    }
+
+    /**
+     * Returns the distances between the empty string and each prefix of a word of {@code length} characters.
+     */
+    static int[] initialRow(int length) {
+        int[] row = new int[length + 1];
+        for (int i = 0; i <= length; i++) {
+            row[i] = i;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the distances between each prefix of {@code word} and a string extended by {@code c}, given the
+     * distances {@code previousRow} between each prefix of {@code word} and that string.
+     */
+    static int[] nextRow(int[] previousRow, String word, char c) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int i = 1; i < row.length; i++) {
+            int substitution = previousRow[i - 1] + (word.charAt(i - 1) == c ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(previousRow[i], row[i - 1]) + 1);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Tests that an indexed person's {@code SearchField} matches any of the keywords given, by looking the keywords up
+ * in a {@link PersonSearchIndex}.
+ *
+ * The matches are looked up again whenever the index has changed since the last test, so the predicate stays
+ * correct for a filtered list whose source changes. Persons that are not in the index never match.
+ * The predicate may be tested from several threads at once, as long as the index is not changed meanwhile.
+ */
+public class IndexedKeywordsPredicate implements Predicate<ReadOnlyPerson> {
+    private final PersonSearchIndex index;
+    private final SearchField field;
+    private final List<String> keywords;
+
+    private volatile VersionedResult<Map<ReadOnlyPerson, Integer>> matches;
+    private volatile VersionedResult<Map<ReadOnlyPerson, Double>> scores;
+
+    public IndexedKeywordsPredicate(PersonSearchIndex index, SearchField field, List<String> keywords) {
+        requireAllNonNull(index, field, keywords);
+        this.index = index;
+        this.field = field;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(ReadOnlyPerson person) {
+        return getMatches().containsKey(person);
+    }
+
+    /**
+     * Returns the indexed persons that match, compared by identity.
+     */
+    public Set<ReadOnlyPerson> getMatchedPersons() {
+        return Collections.unmodifiableSet(getMatches().keySet());
+    }
+
+    /**
+     * Returns the edit distance between {@code person} and the closest fuzzy keyword that matches it, 0 if it is
+     * matched by another keyword, or {@code Integer.MAX_VALUE} if it is not matched.
+     */
+    public int getDistance(ReadOnlyPerson person) {
+        return getMatches().getOrDefault(person, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the relevance of {@code person} to the keywords, which is higher the more specific the matches in it
+     * and the rarer the matched words are, or 0 if it is not matched.
+     */
+    public double getScore(ReadOnlyPerson person) {
+        VersionedResult<Map<ReadOnlyPerson, Double>> currentScores = scores;
+        if (currentScores == null || currentScores.version != index.getVersion()) {
+            currentScores = new VersionedResult<>(index.getVersion(), index.findWithScores(field, keywords));
+            scores = currentScores;
+        }
+        return currentScores.result.getOrDefault(person, 0.0);
+    }
+
+    /**
+     * Returns true if any of the keywords is a fuzzy keyword of a fuzzy searched field.
+     */
+    public boolean hasFuzzyKeywords() {
+        return field.isFuzzySearched() && keywords.stream().anyMatch(WildcardMatcher::isFuzzy);
+    }
+
+    private Map<ReadOnlyPerson, Integer> getMatches() {
+        VersionedResult<Map<ReadOnlyPerson, Integer>> currentMatches = matches;
+        if (currentMatches == null || currentMatches.version != index.getVersion()) {
+            currentMatches = new VersionedResult<>(index.getVersion(), index.findWithDistances(field, keywords));
+            matches = currentMatches;
+        }
+        return currentMatches.result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedKeywordsPredicate // instanceof handles nulls
+                && this.index == ((IndexedKeywordsPredicate) other).index
+                && this.field == ((IndexedKeywordsPredicate) other).field
+                && this.keywords.equals(((IndexedKeywordsPredicate) other).keywords)); // state check
+    }
+
+    /**
+     * A search result and the version of the index it was found in, published together so that threads testing
+     * the predicate at the same time never see a result with the wrong version.
+     */
+    private static class VersionedResult<T> {
+        private final long version;
+        private final T result;
+
+        VersionedResult(long version, T result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
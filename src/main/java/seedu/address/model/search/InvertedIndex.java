@@ -0,0 +1,162 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Maps the words of one {@link SearchField} to the persons having them.
+ * Keywords with wildcards are first expanded into the words they match using a {@link TermDictionary} of the words,
+ * or a reversed one if the keyword has a longer literal end than start. If the index has a {@link TrigramIndex},
+ * keywords starting and ending with a wildcard, such as {@code *4321*}, are expanded using it instead.
+ * If the field is fuzzy searched, fuzzy keywords such as {@code jonh~} are expanded into the words within their
+ * edit distance using the {@link TermDictionary}.
+ */
+class InvertedIndex {
+
+    private final Map<String, Set<ReadOnlyPerson>> postings = new HashMap<>();
+    private final TermDictionary words = new TermDictionary(false);
+    private final TermDictionary reversedWords = new TermDictionary(true);
+    private final TrigramIndex trigrams;
+    private final boolean isFuzzySearched;
+
+    InvertedIndex(SearchField field) {
+        trigrams = field.isSubstringSearched() ? new TrigramIndex() : null;
+        isFuzzySearched = field.isFuzzySearched();
+    }
+
+    void add(String word, ReadOnlyPerson person) {
+        Set<ReadOnlyPerson> persons = postings.get(word);
+        if (persons == null) {
+            persons = Collections.newSetFromMap(new IdentityHashMap<>());
+            postings.put(word, persons);
+            words.add(word);
+            reversedWords.add(word);
+            if (trigrams != null) {
+                trigrams.add(word);
+            }
+        }
+        persons.add(person);
+    }
+
+    void remove(String word, ReadOnlyPerson person) {
+        Set<ReadOnlyPerson> persons = postings.get(word);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            postings.remove(word);
+            words.remove(word);
+            reversedWords.remove(word);
+            if (trigrams != null) {
+                trigrams.remove(word);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        words.clear();
+        reversedWords.clear();
+        if (trigrams != null) {
+            trigrams.clear();
+        }
+    }
+
+    /**
+     * Puts the persons having a word matched by {@code keyword} in {@code distances}, with the edit distance from
+     * the keyword to their closest matching word. Only fuzzy keywords match words at a distance other than 0.
+     * Persons already in {@code distances} keep the smaller of the two distances.
+     */
+    void collectMatches(String keyword, Map<ReadOnlyPerson, Integer> distances) {
+        collectMatchedWords(keyword).forEach((word, distance) -> putAll(postings.get(word), distance, distances));
+    }
+
+    /**
+     * Adds the relevance of {@code keyword} to each person having a word matched by it to {@code scores}.
+     * Each matched word scores {@code fieldWeight} times the weight of its {@link MatchType}, times its inverse
+     * document frequency among the {@code personCount} indexed persons, so that rare words count for more than
+     * words many persons share.
+     */
+    void collectScores(String keyword, double fieldWeight, int personCount, Map<ReadOnlyPerson, Double> scores) {
+        boolean isFuzzy = isFuzzySearched && WildcardMatcher.isFuzzy(keyword);
+        collectMatchedWords(keyword).forEach((word, distance) -> {
+            Set<ReadOnlyPerson> persons = postings.get(word);
+            double score = fieldWeight * MatchType.of(keyword, distance, isFuzzy).getWeight(distance)
+                    * Math.log(1 + (double) personCount / persons.size());
+            for (ReadOnlyPerson person : persons) {
+                scores.merge(person, score, Double::sum);
+            }
+        });
+    }
+
+    /**
+     * Returns the indexed words matched by {@code keyword}, each with its edit distance from the keyword.
+     */
+    private Map<String, Integer> collectMatchedWords(String keyword) {
+        Map<String, Integer> wordDistances = new HashMap<>();
+        if (isFuzzySearched && WildcardMatcher.isFuzzy(keyword)) {
+            words.collectWithinDistance(WildcardMatcher.getFuzzyWord(keyword),
+                    WildcardMatcher.getMaxEditDistance(keyword), wordDistances);
+            return wordDistances;
+        }
+
+        String lowerCaseKeyword = keyword.toLowerCase();
+        int wildcardIndex = WildcardMatcher.indexOfWildcard(lowerCaseKeyword);
+        if (wildcardIndex == -1) {
+            if (postings.containsKey(lowerCaseKeyword)) {
+                wordDistances.put(lowerCaseKeyword, 0);
+            }
+            return wordDistances;
+        }
+
+        List<String> matchedWords = new ArrayList<>();
+        if (trigrams != null && isSubstringKeyword(lowerCaseKeyword)) {
+            trigrams.collectMatches(lowerCaseKeyword, matchedWords);
+        } else if (getLiteralSuffixLength(lowerCaseKeyword) > wildcardIndex) {
+            reversedWords.collectMatches(lowerCaseKeyword, matchedWords);
+        } else {
+            words.collectMatches(lowerCaseKeyword, matchedWords);
+        }
+        for (String word : matchedWords) {
+            wordDistances.put(word, 0);
+        }
+        return wordDistances;
+    }
+
+    private static void putAll(Set<ReadOnlyPerson> persons, int distance, Map<ReadOnlyPerson, Integer> distances) {
+        for (ReadOnlyPerson person : persons) {
+            distances.merge(person, distance, Math::min);
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} starts and ends with a wildcard symbol and can be looked up by its trigrams.
+     */
+    private static boolean isSubstringKeyword(String keyword) {
+        return WildcardMatcher.indexOfWildcard(keyword) == 0 && getLiteralSuffixLength(keyword) == 0
+                && TrigramIndex.canLookUp(keyword);
+    }
+
+    /**
+     * Returns the number of characters after the last wildcard symbol in {@code keyword}.
+     */
+    private static int getLiteralSuffixLength(String keyword) {
+        int length = 0;
+        for (int i = keyword.length() - 1; i >= 0; i--) {
+            char c = keyword.charAt(i);
+            if (c == WildcardMatcher.WILDCARD_ANY || c == WildcardMatcher.WILDCARD_ONE) {
+                break;
+            }
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.search;
+
+/**
+ * How a keyword matched a word, from the most to the least specific, and how much such a match counts towards the
+ * relevance of a person.
+ */
+enum MatchType {
+    EXACT(4), PREFIX(2), WILDCARD(1), FUZZY(1);
+
+    private final double weight;
+
+    MatchType(double weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Returns the weight of a match of this type at the edit distance {@code distance}.
+     * Fuzzy matches count for less the more edits they need.
+     */
+    double getWeight(int distance) {
+        return this == FUZZY ? weight / (1 + distance) : weight;
+    }
+
+    /**
+     * Returns how {@code keyword} matched a word at the edit distance {@code distance}, where {@code isFuzzy} is
+     * true if the keyword was looked up as a fuzzy keyword.
+     */
+    static MatchType of(String keyword, int distance, boolean isFuzzy) {
+        if (isFuzzy) {
+            return distance == 0 ? EXACT : FUZZY;
+        }
+        int wildcardIndex = WildcardMatcher.indexOfWildcard(keyword);
+        if (wildcardIndex == -1) {
+            return EXACT;
+        }
+        boolean isOnlyTrailingWildcard = wildcardIndex == keyword.length() - 1
+                && keyword.charAt(wildcardIndex) == WildcardMatcher.WILDCARD_ANY;
+        return isOnlyTrailingWildcard ? PREFIX : WILDCARD;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.search;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * An inverted index from the words of each {@link SearchField} to the persons having them, so that keyword
+ * searches do not have to match the keywords against every person.
+ *
+ * Persons are indexed by identity, and must not have their searchable fields changed while they are indexed.
+ */
+public class PersonSearchIndex {
+
+    private final Map<SearchField, InvertedIndex> indexes = new EnumMap<>(SearchField.class);
+    private final Map<ReadOnlyPerson, Integer> ordinals = new IdentityHashMap<>();
+    // incremented on every change, so that search results can tell when they are out of date
+    private long version;
+    private int personCount;
+    private int nextOrdinal;
+    // incremented whenever ordinals start again from 0
+    private long ordinalGeneration;
+
+    public PersonSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            indexes.put(field, new InvertedIndex(field));
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(ReadOnlyPerson person) {
+        version++;
+        personCount++;
+        ordinals.put(person, nextOrdinal++);
+        for (SearchField field : SearchField.values()) {
+            for (String word : field.getWords(person)) {
+                indexes.get(field).add(word, person);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must have been added with the same searchable fields, from the index.
+     */
+    public void remove(ReadOnlyPerson person) {
+        version++;
+        personCount--;
+        ordinals.remove(person);
+        for (SearchField field : SearchField.values()) {
+            for (String word : field.getWords(person)) {
+                indexes.get(field).remove(word, person);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        version++;
+        personCount = 0;
+        ordinals.clear();
+        nextOrdinal = 0;
+        ordinalGeneration++;
+        indexes.values().forEach(InvertedIndex::clear);
+    }
+
+    /**
+     * Returns the indexed persons whose {@code field} has a word matched by any of {@code keywords}, which may
+     * contain the wildcard symbols "*" and "?", or be fuzzy keywords if the field is fuzzy searched.
+     * The returned set compares persons by identity.
+     */
+    public Set<ReadOnlyPerson> find(SearchField field, List<String> keywords) {
+        return findWithDistances(field, keywords).keySet();
+    }
+
+    /**
+     * Returns the persons {@link #find(SearchField, List) found} for {@code keywords}, each with the smallest edit
+     * distance between a fuzzy keyword and a word of the person. Persons matched by other keywords have a distance
+     * of 0. The returned map compares persons by identity.
+     */
+    public Map<ReadOnlyPerson, Integer> findWithDistances(SearchField field, List<String> keywords) {
+        Map<ReadOnlyPerson, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            indexes.get(field).collectMatches(keyword, distances);
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the persons {@link #find(SearchField, List) found} for {@code keywords}, each with a relevance score
+     * that is higher the more specific the matches of the keywords in the person, and the fewer other persons
+     * have the matched words. The returned map compares persons by identity.
+     */
+    public Map<ReadOnlyPerson, Double> findWithScores(SearchField field, List<String> keywords) {
+        Map<ReadOnlyPerson, Double> scores = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            indexes.get(field).collectScores(keyword, field.getRelevanceWeight(), personCount, scores);
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, a small number that no other person indexed in the same
+     * {@link #getOrdinalGeneration() generation} has, or -1 if {@code person} is not indexed.
+     * Ordinals are given out in increasing order, and those of removed persons are only reused after a
+     * {@link #clear()}, which starts a new generation.
+     */
+    public int getOrdinal(ReadOnlyPerson person) {
+        return ordinals.getOrDefault(person, -1);
+    }
+
+    /**
+     * Returns a number greater than every ordinal given out in the current generation.
+     */
+    public int getOrdinalLimit() {
+        return nextOrdinal;
+    }
+
+    /**
+     * Returns a number that changes whenever ordinals start again from 0.
+     */
+    public long getOrdinalGeneration() {
+        return ordinalGeneration;
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed persons change.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
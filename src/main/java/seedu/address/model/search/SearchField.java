@@ -0,0 +1,75 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A field of a person that can be searched by keywords, and the words of it that a keyword is matched against.
+ */
+public enum SearchField {
+    NAME(false, true, 3), PHONE(true, false, 2), EMAIL(true, false, 2), ADDRESS(false, false, 1),
+    TAG(false, false, 2);
+
+    private final boolean isSubstringSearched;
+    private final boolean isFuzzySearched;
+    private final double relevanceWeight;
+
+    SearchField(boolean isSubstringSearched, boolean isFuzzySearched, double relevanceWeight) {
+        this.isSubstringSearched = isSubstringSearched;
+        this.isFuzzySearched = isFuzzySearched;
+        this.relevanceWeight = relevanceWeight;
+    }
+
+    /**
+     * Returns true if this field is commonly searched by substrings, such as part of a phone number, and should
+     * be indexed for them.
+     */
+    public boolean isSubstringSearched() {
+        return isSubstringSearched;
+    }
+
+    /**
+     * Returns true if fuzzy keywords such as "jonh~" match words of this field with typos, instead of being matched
+     * literally.
+     */
+    public boolean isFuzzySearched() {
+        return isFuzzySearched;
+    }
+
+    /**
+     * Returns how much a match in this field counts towards the relevance of a person, relative to the other fields.
+     */
+    public double getRelevanceWeight() {
+        return relevanceWeight;
+    }
+
+    /**
+     * Returns the lowercase words of this field of {@code person}.
+     * A keyword matches the person if it matches any of these words in full.
+     */
+    public List<String> getWords(ReadOnlyPerson person) {
+        switch (this) {
+        case NAME:
+            return Arrays.asList(WildcardMatcher.splitWords(person.getName().fullName));
+        case PHONE:
+            return Collections.singletonList(person.getPhone().value.toLowerCase());
+        case EMAIL:
+            return Collections.singletonList(person.getEmail().value.toLowerCase());
+        case ADDRESS:
+            return Arrays.asList(WildcardMatcher.splitWords(person.getAddress().value));
+        case TAG:
+            List<String> tagNames = new ArrayList<>();
+            for (Tag tag : person.getTags()) {
+                tagNames.add(tag.tagName.toLowerCase());
+            }
+            return tagNames;
+        default:
+            throw new AssertionError("Search field should always be valid");
+        }
+    }
+}
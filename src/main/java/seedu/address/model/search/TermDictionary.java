@@ -0,0 +1,244 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of the words of an {@link InvertedIndex}, used to find the words matched by a keyword with the wildcard
+ * symbols "*" and "?" without testing every word.
+ *
+ * The keyword is run as a small automaton while walking down the trie, so every node is visited at most once per
+ * keyword, and subtrees that no word matching the keyword can be in are skipped. A reversed dictionary stores each
+ * word back to front, so that keywords starting with a wildcard can be walked from their literal end instead.
+ *
+ * Words close to a fuzzy keyword are found the same way, by computing one row of the edit distance table per node
+ * and skipping subtrees in which every word is already too far from the keyword.
+ */
+class TermDictionary {
+
+    private final Node root = new Node();
+    private final boolean isReversed;
+
+    TermDictionary(boolean isReversed) {
+        this.isReversed = isReversed;
+    }
+
+    void add(String word) {
+        String key = toKey(word);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+        node.word = word;
+    }
+
+    void remove(String word) {
+        remove(root, toKey(word), 0);
+    }
+
+    void clear() {
+        root.clear();
+    }
+
+    /**
+     * Removes the word with {@code key} from the subtrie at {@code node}, which is at {@code depth} of the key.
+     * Returns true if {@code node} is left without words and can be removed too.
+     */
+    private boolean remove(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            node.word = null;
+        } else {
+            Node child = node.getChild(key.charAt(depth));
+            if (child != null && remove(child, key, depth + 1)) {
+                node.removeChild(key.charAt(depth));
+            }
+        }
+        return node.word == null && node.isLeaf();
+    }
+
+    /**
+     * Adds the words matched in full by the lowercase {@code keyword} to {@code words}.
+     */
+    void collectMatches(String keyword, List<String> words) {
+        String pattern = toKey(keyword);
+        BitSet states = new BitSet(pattern.length() + 1);
+        states.set(0);
+        followWildcards(pattern, states);
+        collectMatches(root, pattern, states, words);
+    }
+
+    /**
+     * Adds the words in the subtrie at {@code node} that are matched by {@code pattern} to {@code words},
+     * where {@code states} are the positions in {@code pattern} that the path to {@code node} can have reached.
+     */
+    private void collectMatches(Node node, String pattern, BitSet states, List<String> words) {
+        if (node.word != null && states.get(pattern.length())) {
+            words.add(node.word);
+        }
+
+        if (!hasWildcardState(pattern, states)) {
+            // only literal characters can follow, so only their children need to be looked at
+            StringBuilder labelsVisited = new StringBuilder();
+            for (int i = states.nextSetBit(0); i >= 0 && i < pattern.length(); i = states.nextSetBit(i + 1)) {
+                char label = pattern.charAt(i);
+                Node child = node.getChild(label);
+                if (child != null && labelsVisited.indexOf(String.valueOf(label)) == -1) {
+                    labelsVisited.append(label);
+                    collectMatchesInChild(child, label, pattern, states, words);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < node.size; i++) {
+            collectMatchesInChild(node.children[i], node.labels[i], pattern, states, words);
+        }
+    }
+
+    private void collectMatchesInChild(Node child, char label, String pattern, BitSet states, List<String> words) {
+        BitSet nextStates = step(pattern, states, label);
+        if (!nextStates.isEmpty()) {
+            collectMatches(child, pattern, nextStates, words);
+        }
+    }
+
+    /**
+     * Puts each word within {@code maxDistance} edits of the lowercase {@code word} in {@code distances}, with its
+     * edit distance. This dictionary must not be reversed.
+     */
+    void collectWithinDistance(String word, int maxDistance, Map<String, Integer> distances) {
+        assert !isReversed;
+        collectWithinDistance(root, word, maxDistance, EditDistance.initialRow(word.length()), distances);
+    }
+
+    /**
+     * Puts the words in the subtrie at {@code node} that are within {@code maxDistance} edits of {@code word} in
+     * {@code distances}, where {@code row} are the distances between the path to {@code node} and each prefix of
+     * {@code word}.
+     */
+    private void collectWithinDistance(Node node, String word, int maxDistance, int[] row,
+                                       Map<String, Integer> distances) {
+        if (node.word != null && row[word.length()] <= maxDistance) {
+            distances.put(node.word, row[word.length()]);
+        }
+        if (Arrays.stream(row).min().getAsInt() > maxDistance) {
+            // every longer path is at least as far from the word
+            return;
+        }
+        for (int i = 0; i < node.size; i++) {
+            int[] childRow = EditDistance.nextRow(row, word, node.labels[i]);
+            collectWithinDistance(node.children[i], word, maxDistance, childRow, distances);
+        }
+    }
+
+    /**
+     * Returns the positions in {@code pattern} reached from {@code states} by reading {@code c}.
+     */
+    private static BitSet step(String pattern, BitSet states, char c) {
+        BitSet nextStates = new BitSet(pattern.length() + 1);
+        for (int i = states.nextSetBit(0); i >= 0 && i < pattern.length(); i = states.nextSetBit(i + 1)) {
+            char p = pattern.charAt(i);
+            if (p == WildcardMatcher.WILDCARD_ANY) {
+                if (!isWhitespace(c)) {
+                    nextStates.set(i);
+                }
+            } else if (p == WildcardMatcher.WILDCARD_ONE) {
+                if (!isWhitespace(c)) {
+                    nextStates.set(i + 1);
+                }
+            } else if (p == c) {
+                nextStates.set(i + 1);
+            }
+        }
+        followWildcards(pattern, nextStates);
+        return nextStates;
+    }
+
+    /**
+     * Adds to {@code states} the positions after every "*" in it, as "*" can match nothing.
+     */
+    private static void followWildcards(String pattern, BitSet states) {
+        for (int i = states.nextSetBit(0); i >= 0 && i < pattern.length(); i = states.nextSetBit(i + 1)) {
+            if (pattern.charAt(i) == WildcardMatcher.WILDCARD_ANY) {
+                states.set(i + 1);
+            }
+        }
+    }
+
+    private static boolean hasWildcardState(String pattern, BitSet states) {
+        for (int i = states.nextSetBit(0); i >= 0 && i < pattern.length(); i = states.nextSetBit(i + 1)) {
+            if (pattern.charAt(i) == WildcardMatcher.WILDCARD_ANY
+                    || pattern.charAt(i) == WildcardMatcher.WILDCARD_ONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the wildcards cannot match {@code c}, as with {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private String toKey(String word) {
+        return isReversed ? new StringBuilder(word).reverse().toString() : word;
+    }
+
+    /**
+     * A node of the trie, with its children kept sorted by label.
+     */
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int size;
+        private String word;
+
+        Node getChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, size, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, size, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertionPoint = -index - 1;
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(1, size * 2));
+                children = Arrays.copyOf(children, labels.length);
+            }
+            System.arraycopy(labels, insertionPoint, labels, insertionPoint + 1, size - insertionPoint);
+            System.arraycopy(children, insertionPoint, children, insertionPoint + 1, size - insertionPoint);
+            labels[insertionPoint] = label;
+            children[insertionPoint] = new Node();
+            size++;
+            return children[insertionPoint];
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, 0, size, label);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(labels, index + 1, labels, index, size - index - 1);
+            System.arraycopy(children, index + 1, children, index, size - index - 1);
+            size--;
+            children[size] = null;
+        }
+
+        void clear() {
+            labels = new char[0];
+            children = new Node[0];
+            size = 0;
+            word = null;
+        }
+
+        boolean isLeaf() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Maps every three character substring of the words of an {@link InvertedIndex} to the words containing it, so
+ * that substring keywords such as {@code *4321*} only have to be tested against the few words that contain all of
+ * their trigrams.
+ */
+class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    void add(String word) {
+        for (String trigram : getTrigrams(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    void remove(String word) {
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null) {
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns true if {@code keyword} has a run of at least three characters without wildcards, which is needed to
+     * look it up in this index.
+     */
+    static boolean canLookUp(String keyword) {
+        return !getLiteralTrigrams(keyword).isEmpty();
+    }
+
+    /**
+     * Adds the words matched in full by the lowercase {@code keyword} to {@code words}.
+     * The keyword must be one that {@link #canLookUp(String)}.
+     */
+    void collectMatches(String keyword, List<String> words) {
+        List<Set<String>> candidateSets = new ArrayList<>();
+        for (String trigram : getLiteralTrigrams(keyword)) {
+            Set<String> wordsWithTrigram = wordsByTrigram.get(trigram);
+            if (wordsWithTrigram == null) {
+                return;
+            }
+            candidateSets.add(wordsWithTrigram);
+        }
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+
+        Pattern pattern = WildcardMatcher.compileKeywords(Collections.singletonList(keyword));
+        for (String candidate : candidateSets.get(0)) {
+            if (containsInAll(candidateSets, candidate) && pattern.matcher(candidate).matches()) {
+                words.add(candidate);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Set<String>> sets, String word) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the trigrams of the runs of {@code keyword} between wildcard symbols.
+     */
+    private static Set<String> getLiteralTrigrams(String keyword) {
+        Set<String> trigrams = new HashSet<>();
+        int runStart = 0;
+        for (int i = 0; i <= keyword.length(); i++) {
+            if (i == keyword.length() || keyword.charAt(i) == WildcardMatcher.WILDCARD_ANY
+                    || keyword.charAt(i) == WildcardMatcher.WILDCARD_ONE) {
+                trigrams.addAll(getTrigrams(keyword.substring(runStart, i)));
+                runStart = i + 1;
+            }
+        }
+        return trigrams;
+    }
+
+    private static Set<String> getTrigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+//@@author newalter
+/**
+ * Converts a list of string of unprocessed keywords with wildcard symbol "*" and "?"
+ * into a list of lowercase regular expression matching the keywords.
+ */
+public class WildcardMatcher {
+
+    public static final char WILDCARD_ANY = '*';
+    public static final char WILDCARD_ONE = '?';
+    public static final char FUZZY_SYMBOL = '~';
+    public static final int MAX_EDIT_DISTANCE = 2;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()<>+-=!^$|&";
+    // matches nothing, used when there are no keywords
+    private static final String NO_MATCH = "(?!)";
+
+    /**
+     * Converts a list of {@code keywords} with wildcard symbol "*" and "?"
+     * into a list of lowercase regular expression matching the keywords.
+     */
+    public static List<String> processKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        ArrayList<String> processedKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            processedKeywords.add(processKeyword(keyword));
+        }
+        return processedKeywords;
+    }
+
+    /**
+     * Converts {@code keyword} into a lowercase regular expression in which only "*" and "?" are special.
+     */
+    private static String processKeyword(String keyword) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : keyword.toLowerCase().toCharArray()) {
+            if (c == WILDCARD_ANY) {
+                regex.append("\\S*");
+            } else if (c == WILDCARD_ONE) {
+                regex.append("\\S");
+            } else if (REGEX_METACHARACTERS.indexOf(c) != -1) {
+                regex.append('\\').append(c);
+            } else {
+                regex.append(c);
+            }
+        }
+        return regex.toString();
+    }
+
+    /**
+     * Returns true if {@code keyword} is a fuzzy keyword, which is a word without wildcard symbols followed by "~",
+     * optionally followed by the maximum number of edits from 0 to {@value #MAX_EDIT_DISTANCE}, e.g. "jonh~" or
+     * "jonh~1".
+     */
+    public static boolean isFuzzy(String keyword) {
+        int fuzzyIndex = keyword.lastIndexOf(FUZZY_SYMBOL);
+        if (fuzzyIndex <= 0 || indexOfWildcard(keyword) != -1) {
+            return false;
+        }
+        String distance = keyword.substring(fuzzyIndex + 1);
+        return distance.isEmpty()
+                || (distance.length() == 1 && distance.charAt(0) >= '0'
+                        && distance.charAt(0) - '0' <= MAX_EDIT_DISTANCE);
+    }
+
+    /**
+     * Returns the lowercase word of the fuzzy {@code keyword}, without the "~" and maximum number of edits.
+     */
+    public static String getFuzzyWord(String keyword) {
+        assert isFuzzy(keyword);
+        return keyword.substring(0, keyword.lastIndexOf(FUZZY_SYMBOL)).toLowerCase();
+    }
+
+    /**
+     * Returns the maximum number of edits that the fuzzy {@code keyword} allows. If it does not give one, words of
+     * up to four characters allow one edit and longer words allow {@value #MAX_EDIT_DISTANCE}.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        assert isFuzzy(keyword);
+        int fuzzyIndex = keyword.lastIndexOf(FUZZY_SYMBOL);
+        if (fuzzyIndex < keyword.length() - 1) {
+            return keyword.charAt(fuzzyIndex + 1) - '0';
+        }
+        return fuzzyIndex <= 4 ? 1 : MAX_EDIT_DISTANCE;
+    }
+
+    /**
+     * Returns the index of the first wildcard symbol in {@code keyword}, or -1 if there is none.
+     */
+    public static int indexOfWildcard(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (keyword.charAt(i) == WILDCARD_ANY || keyword.charAt(i) == WILDCARD_ONE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compiles {@code keywords} with wildcard symbol "*" and "?" into a single {@code Pattern}
+     * that matches a lowercase word if any of the keywords matches it.
+     */
+    public static Pattern compileKeywords(List<String> keywords) {
+        List<String> alternatives = new ArrayList<>();
+        for (String keyword : processKeywords(keywords)) {
+            alternatives.add("(?:" + keyword + ")");
+        }
+        return Pattern.compile(alternatives.isEmpty() ? NO_MATCH : String.join("|", alternatives));
+    }
+
+    /**
+     * Returns true if {@code keywords} matches any of the whitespace separated words in {@code text},
+     * ignoring case.
+     *
+     * @param keywords a pattern from {@link #compileKeywords(List)}.
+     */
+    public static boolean matchesAnyWord(Pattern keywords, String text) {
+        for (String word : splitWords(text)) {
+            if (keywords.matcher(word).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lowercase whitespace separated words in {@code text}, as matched by the keywords.
+     */
+    public static String[] splitWords(String text) {
+        return WHITESPACE.split(text.toLowerCase());
+    }
+}
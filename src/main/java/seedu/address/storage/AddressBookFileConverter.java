@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the xml and binary formats.
+ * Run with {@code gradlew convertAddressBook -Pfrom=<source file> -Pto=<target file>}.
+ */
+public class AddressBookFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "The source file may be in either format. The target file is written in the binary format if its name "
+            + "ends with " + BINARY_FILE_EXTENSION + ", and in the xml format otherwise.";
+
+    /**
+     * Reads the address book in {@code sourceFilePath}, which may be in either format, and writes it to
+     * {@code targetFilePath} in the format given by its file extension.
+     *
+     * @throws DataConversionException if the source file is in neither format.
+     * @throws IOException if the source file is missing, or there was any problem reading or writing the files.
+     */
+    public static void convert(String sourceFilePath, String targetFilePath) throws DataConversionException,
+                                                                                    IOException {
+        requireAllNonNull(sourceFilePath, targetFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(sourceFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new IOException("File not found : " + sourceFilePath);
+        }
+        getStorageFor(targetFilePath).saveAddressBook(addressBook.get());
+    }
+
+    private static AddressBookStorage getStorageFor(String filePath) {
+        return filePath.endsWith(BINARY_FILE_EXTENSION)
+                ? new BinaryAddressBookStorage(filePath)
+                : new XmlAddressBookStorage(filePath);
+    }
+
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        convert(args[0], args[1]);
+        System.out.println("Converted " + args[0] + " to " + args[1]);
+    }
+}
@@ -41,6 +41,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Returns the file path of the backup data file, which is in the same format as the data file.
+     */
+    String getBackupAddressBookFilePath();
+
     /**
      * Backup the given {@Link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,398 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Id;
+import seedu.address.model.person.LastUpdated;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in a compact binary format.
+ *
+ * The format is, in big-endian order:
+ * <pre>
+ * int     magic number, {@link #MAGIC}
+ * short   format version, {@link #FORMAT_VERSION}
+ * int     number of shared strings, followed by the strings
+ * int     number of tags in the master tag list, followed by the string index of each tag
+ * int     number of persons, followed by the persons
+ * int     CRC32 of everything before it
+ * </pre>
+ * The CRC32 is checked before anything else is decoded, and every count and length is checked against the bytes
+ * left, so corrupted data is rejected rather than allocated for.
+ * A string is its length in UTF-8 bytes followed by the bytes, or a length of -1 for null. Tag names and meeting
+ * names are stored once in the shared strings and referred to by index, as they repeat across persons.
+ * A person is its name, phone, email, address, note, id and last updated strings, followed by the number of tags and
+ * the string index of each tag, then the number of meetings and the name index and time string of each meeting.
+ */
+public class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x41424B42; // "ABKB"
+    public static final short FORMAT_VERSION = 1;
+
+    private static final int NO_STRING = -1;
+    // name, phone, email, address, note, id and last updated
+    private static final int PERSON_STRING_FIELDS = 7;
+    private static final int MIN_STRING_BYTES = Integer.BYTES;
+    // the string fields, the number of tags and the number of meetings
+    private static final int MIN_PERSON_BYTES = (PERSON_STRING_FIELDS + 2) * Integer.BYTES;
+    // the name index and the time string
+    private static final int MIN_MEETING_BYTES = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookCodec.class);
+
+    /**
+     * Returns true if {@code header} starts with the magic number of this format.
+     */
+    public static boolean hasMagic(byte[] header) {
+        return header.length >= 4
+                && ((header[0] & 0xff) << 24 | (header[1] & 0xff) << 16 | (header[2] & 0xff) << 8
+                | (header[3] & 0xff)) == MAGIC;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, leaving {@code out} open.
+     *
+     * @throws IOException if there was an error writing to the stream.
+     */
+    public static void write(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(out);
+        requireNonNull(addressBook);
+
+        Map<String, Integer> sharedStrings = collectSharedStrings(addressBook);
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        data.writeInt(sharedStrings.size());
+        for (String string : sharedStrings.keySet()) {
+            writeString(data, string);
+        }
+
+        data.writeInt(addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            data.writeInt(sharedStrings.get(tag.tagName));
+        }
+
+        data.writeInt(addressBook.getPersonList().size());
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(data, person, sharedStrings);
+        }
+
+        data.flush();
+        // written outside of the checksum
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    /**
+     * Returns the index of every tag name and meeting name in {@code addressBook}, in order of first appearance.
+     */
+    private static Map<String, Integer> collectSharedStrings(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> sharedStrings = new LinkedHashMap<>();
+        for (Tag tag : addressBook.getTagList()) {
+            sharedStrings.putIfAbsent(tag.tagName, sharedStrings.size());
+        }
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                sharedStrings.putIfAbsent(tag.tagName, sharedStrings.size());
+            }
+            for (Meeting meeting : person.getMeetings()) {
+                if (meeting.meetingName != null) {
+                    sharedStrings.putIfAbsent(meeting.meetingName, sharedStrings.size());
+                }
+            }
+        }
+        return sharedStrings;
+    }
+
+    private static void writePerson(DataOutputStream data, ReadOnlyPerson person, Map<String, Integer> sharedStrings)
+            throws IOException {
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getAddress().value);
+        writeString(data, person.getNote().getValue());
+        writeString(data, person.getId().getValue());
+        writeString(data, person.getLastUpdated().getValue());
+
+        data.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            data.writeInt(sharedStrings.get(tag.tagName));
+        }
+
+        data.writeInt(person.getMeetings().size());
+        for (Meeting meeting : person.getMeetings()) {
+            data.writeInt(meeting.meetingName == null ? NO_STRING : sharedStrings.get(meeting.meetingName));
+            writeString(data, meeting.value);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        if (string == null) {
+            data.writeInt(NO_STRING);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    /**
+     * Returns the address book read from {@code in}, leaving {@code in} open.
+     * Persons and tags that do not meet the model's constraints are left out, as with the xml format.
+     *
+     * @throws DataConversionException if the data is not in this format, was written by a newer version of this
+     *      format, or is corrupted.
+     * @throws IOException if there was an error reading from the stream.
+     */
+    public static ReadOnlyAddressBook read(InputStream in) throws DataConversionException, IOException {
+        requireNonNull(in);
+
+        byte[] bytes = readAllBytes(in);
+        int contentLength = verifyChecksum(bytes);
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes, 0, contentLength));
+
+        readHeader(data);
+        SharedTags sharedTags = readSharedTags(data);
+        Set<Tag> tags = readTagList(data, sharedTags);
+
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        Set<Meeting> meetings = new LinkedHashSet<>();
+        int personCount = readCount(data, MIN_PERSON_BYTES);
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(data, sharedTags);
+            if (person != null) {
+                persons.add(person);
+                meetings.addAll(person.getMeetings());
+            }
+        }
+        if (data.available() != 0) {
+            throw new DataConversionException(new IOException("Binary address book is corrupted"));
+        }
+
+        return new DecodedAddressBook(persons, new ArrayList<>(tags), new ArrayList<>(meetings));
+    }
+
+    private static byte[] readAllBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            bytes.write(buffer, 0, length);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Checks the CRC32 at the end of {@code bytes} against the rest of them, so that nothing is decoded from
+     * corrupted data, and returns the length of the data before the CRC32.
+     *
+     * @throws DataConversionException if the CRC32 is missing or does not match.
+     */
+    private static int verifyChecksum(byte[] bytes) throws DataConversionException {
+        int contentLength = bytes.length - Integer.BYTES;
+        if (contentLength < 0) {
+            throw new DataConversionException(new IOException("Binary address book is corrupted"));
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, contentLength);
+        if ((int) checksum.getValue() != ByteBuffer.wrap(bytes, contentLength, Integer.BYTES).getInt()) {
+            throw new DataConversionException(new IOException("Binary address book is corrupted"));
+        }
+        return contentLength;
+    }
+
+    /**
+     * Reads the magic number and format version at the current position of {@code data}.
+     *
+     * @throws DataConversionException if the data is not in this format or was written by a newer version of it.
+     */
+    private static void readHeader(DataInputStream data) throws DataConversionException, IOException {
+        if (data.readInt() != MAGIC) {
+            throw new DataConversionException(new IOException("Not an address book in binary format"));
+        }
+        short version = data.readShort();
+        if (version > FORMAT_VERSION) {
+            throw new DataConversionException(new IOException("Unsupported binary format version " + version));
+        }
+    }
+
+    /**
+     * Reads the shared strings at the current position of {@code data}.
+     */
+    private static SharedTags readSharedTags(DataInputStream data) throws DataConversionException, IOException {
+        String[] sharedStrings = new String[readCount(data, MIN_STRING_BYTES)];
+        for (int i = 0; i < sharedStrings.length; i++) {
+            sharedStrings[i] = readString(data);
+        }
+        return new SharedTags(sharedStrings);
+    }
+
+    /**
+     * Reads the master tag list at the current position of {@code data}, leaving out tags that do not meet the
+     * model's constraints.
+     */
+    private static Set<Tag> readTagList(DataInputStream data, SharedTags sharedTags)
+            throws DataConversionException, IOException {
+        Set<Tag> tags = new LinkedHashSet<>();
+        int tagCount = readCount(data, Integer.BYTES);
+        for (int i = 0; i < tagCount; i++) {
+            try {
+                tags.add(sharedTags.get(data.readInt()));
+            } catch (IllegalValueException ive) {
+                logger.warning("Illegal data found in storage.");
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the person at the current position of {@code data},
+     * or null if the person does not meet the model's constraints.
+     */
+    private static Person readPerson(DataInputStream data, SharedTags sharedTags)
+            throws DataConversionException, IOException {
+        String name = readString(data);
+        String phone = readString(data);
+        String email = readString(data);
+        String address = readString(data);
+        String note = readString(data);
+        String id = readString(data);
+        String lastUpdated = readString(data);
+
+        int[] tagIndexes = new int[readCount(data, Integer.BYTES)];
+        for (int i = 0; i < tagIndexes.length; i++) {
+            tagIndexes[i] = data.readInt();
+        }
+
+        int meetingCount = readCount(data, MIN_MEETING_BYTES);
+        int[] meetingNameIndexes = new int[meetingCount];
+        String[] meetingTimes = new String[meetingCount];
+        for (int i = 0; i < meetingCount; i++) {
+            meetingNameIndexes[i] = data.readInt();
+            meetingTimes[i] = readString(data);
+        }
+
+        try {
+            Set<Tag> tags = new HashSet<>();
+            for (int tagIndex : tagIndexes) {
+                tags.add(sharedTags.get(tagIndex));
+            }
+            Set<Meeting> meetings = new HashSet<>();
+            for (int i = 0; i < meetingCount; i++) {
+                meetings.add(new Meeting(sharedTags.getString(meetingNameIndexes[i]), meetingTimes[i]));
+            }
+            Person person = new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    new Note(note), new Id(id), new LastUpdated(lastUpdated), tags, meetings);
+            for (Meeting meeting : person.getMeetings()) {
+                meeting.setPerson(person);
+            }
+            return person;
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal data found in storage.");
+            return null;
+        }
+    }
+
+    /**
+     * Reads a count at the current position of {@code data}.
+     * The count is checked against the bytes left in {@code data} before anything is allocated for it.
+     *
+     * @param minElementBytes the fewest bytes that each of the counted elements takes up.
+     * @throws DataConversionException if the count is negative, or more elements than the bytes left can hold.
+     */
+    private static int readCount(DataInputStream data, int minElementBytes)
+            throws DataConversionException, IOException {
+        int count = data.readInt();
+        if (count < 0 || count > data.available() / minElementBytes) {
+            throw new DataConversionException(new IOException("Binary address book is corrupted"));
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream data) throws DataConversionException, IOException {
+        int length = data.readInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        if (length < 0 || length > data.available()) {
+            throw new DataConversionException(new IOException("Binary address book is corrupted"));
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The shared strings of a binary address book, with each tag created and validated only once.
+     */
+    private static class SharedTags {
+        private final String[] strings;
+        private final Tag[] tags;
+
+        SharedTags(String[] strings) {
+            this.strings = strings;
+            this.tags = new Tag[strings.length];
+        }
+
+        String getString(int index) throws DataConversionException {
+            if (index == NO_STRING) {
+                return null;
+            }
+            checkIndex(index);
+            return strings[index];
+        }
+
+        Tag get(int index) throws DataConversionException, IllegalValueException {
+            checkIndex(index);
+            if (tags[index] == null) {
+                if (strings[index] == null) {
+                    throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+                }
+                tags[index] = new Tag(strings[index]);
+            }
+            return tags[index];
+        }
+
+        private void checkIndex(int index) throws DataConversionException {
+            if (index < 0 || index >= strings.length) {
+                throw new DataConversionException(new IOException("Binary address book is corrupted"));
+            }
+        }
+    }
+}
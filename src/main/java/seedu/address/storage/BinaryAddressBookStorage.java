@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format of {@link BinaryAddressBookCodec}.
+ *
+ * Files in the xml format are read as well, so an existing xml data file is converted to the binary format the next
+ * time the address book is saved.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int HEADER_LENGTH = 4;
+
+    private String filePath;
+    private final boolean atomicSave;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * @param atomicSave if true, files are replaced in a single step when saving.
+     * @see XmlAddressBookStorage#XmlAddressBookStorage(String, boolean)
+     */
+    public BinaryAddressBookStorage(String filePath, boolean atomicSave) {
+        this.filePath = filePath;
+        this.atomicSave = atomicSave;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is neither in the binary nor in the xml format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file " + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(addressBookFile))) {
+            in.mark(HEADER_LENGTH);
+            byte[] header = new byte[HEADER_LENGTH];
+            int headerLength = in.read(header);
+            in.reset();
+
+            if (headerLength == HEADER_LENGTH && BinaryAddressBookCodec.hasMagic(header)) {
+                return Optional.of(BinaryAddressBookCodec.read(in));
+            }
+        }
+
+        logger.info("AddressBook file " + addressBookFile + " is not in binary format, reading it as xml");
+        return Optional.of(XmlFileStorage.loadAddressBookFromFile(addressBookFile));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        if (atomicSave) {
+            FileUtil.writeAtomically(file, out -> BinaryAddressBookCodec.write(out, addressBook));
+            return;
+        }
+        FileUtil.createIfMissing(file);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            BinaryAddressBookCodec.write(out, addressBook);
+        }
+    }
+
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getBackupAddressBookFilePath());
+    }
+
+    @Override
+    public String getBackupAddressBookFilePath() {
+        String nameOfFile = filePath.split("[.]")[0];
+        return nameOfFile + "-backup.bin";
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable address book that was decoded directly into model objects by one of the storage codecs.
+ */
+class DecodedAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<Meeting> meetings;
+
+    DecodedAddressBook(List<ReadOnlyPerson> persons, List<Tag> tags, List<Meeting> meetings) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        this.meetings = FXCollections.unmodifiableObservableList(FXCollections.observableList(meetings));
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<Meeting> getMeetingList() {
+        return meetings;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags";
+    }
+}
@@ -0,0 +1,327 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot plus a journal of the changes made since.
+ *
+ * Each save appends one json line per changed person or tag to the journal file next to the snapshot, instead of
+ * rewriting the whole snapshot, followed by a commit line holding the number and the checksum of those lines. Once the
+ * journal holds more than a set number of records, the snapshot is rewritten and the journal is started afresh.
+ * Reading replays the committed saves in the journal on top of the snapshot, so changes saved before a crash are not
+ * lost, and a save cut short by a crash is left out as a whole rather than replayed in part.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final XmlAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** The address book as of the last save to {@code filePath}, or null if the journal has to be restarted. */
+    private AddressBookSnapshot lastSaved;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalAddressBookStorage(String filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, true);
+    }
+
+    /**
+     * @param atomicSave if true, the snapshot is replaced in a single step when it is rewritten.
+     * @see XmlAddressBookStorage#XmlAddressBookStorage(String, boolean)
+     */
+    public JournalAddressBookStorage(String filePath, int compactionThreshold, boolean atomicSave) {
+        requireNonNull(filePath);
+        this.snapshotStorage = new XmlAddressBookStorage(filePath, atomicSave);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the file path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static String getJournalFilePath(String filePath) {
+        return filePath + JOURNAL_FILE_SUFFIX;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        File journalFile = new File(getJournalFilePath(filePath));
+        if (!snapshot.isPresent() || !FileUtil.isFileExists(journalFile)) {
+            return snapshot;
+        }
+
+        List<JournalRecord> records = readJournal(journalFile);
+        if (records.isEmpty() || records.get(0).getType() != JournalRecord.Type.BASE
+                || records.get(0).getSnapshotChecksum() != computeChecksum(new File(filePath))) {
+            logger.warning("Journal " + journalFile + " does not belong to " + filePath + ", ignoring it");
+            return snapshot;
+        }
+
+        logger.info("Replaying " + (records.size() - 1) + " journal records onto " + filePath);
+        return Optional.of(replay(snapshot.get(), records));
+    }
+
+    /**
+     * Returns the base record and the records of the committed saves in {@code journalFile}.
+     * The records after the last commit record are left out, as they can only come from a save that was cut short.
+     * So are the records of a last save whose commit record does not match them, and a last line that cannot be
+     * parsed.
+     *
+     * @throws DataConversionException if any other line cannot be parsed, or any other save does not match its
+     *      commit record.
+     */
+    private static List<JournalRecord> readJournal(File journalFile) throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        int lastLine = lines.size() - 1;
+        while (lastLine >= 0 && lines.get(lastLine).trim().isEmpty()) {
+            lastLine--;
+        }
+
+        List<JournalRecord> records = new ArrayList<>();
+        List<JournalRecord> save = new ArrayList<>();
+        CRC32 saveChecksum = new CRC32();
+        boolean isLastSaveIncomplete = false;
+        for (int i = 0; i <= lastLine; i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            JournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lastLine) {
+                    isLastSaveIncomplete = true;
+                    break;
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            if (record.getType() == JournalRecord.Type.BASE && records.isEmpty() && save.isEmpty()) {
+                records.add(record);
+            } else if (record.getType() != JournalRecord.Type.COMMIT) {
+                save.add(record);
+                updateChecksum(saveChecksum, line);
+            } else if (record.getRecordCount() == save.size()
+                    && record.getRecordsChecksum() == saveChecksum.getValue()) {
+                records.addAll(save);
+                save.clear();
+                saveChecksum.reset();
+            } else if (i == lastLine) {
+                isLastSaveIncomplete = true;
+                break;
+            } else {
+                throw new DataConversionException(new IllegalValueException(String.format(
+                        JournalRecord.MESSAGE_INVALID_RECORD, "save does not match its commit record")));
+            }
+        }
+        isLastSaveIncomplete |= !save.isEmpty();
+        if (isLastSaveIncomplete) {
+            logger.warning("Ignoring the incomplete last save in journal " + journalFile);
+        }
+        return records;
+    }
+
+    /**
+     * Adds the journal line {@code line}, without its line separator, to {@code checksum}.
+     */
+    private static void updateChecksum(CRC32 checksum, String line) {
+        checksum.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns {@code snapshot} with {@code records} applied on top of it.
+     */
+    private static ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, List<JournalRecord> records)
+            throws DataConversionException {
+        List<ReadOnlyPerson> persons = new ArrayList<>(snapshot.getPersonList());
+        Set<Tag> tags = new HashSet<>(snapshot.getTagList());
+        try {
+            for (JournalRecord record : records) {
+                record.applyTo(persons, tags);
+            }
+            AddressBook replayed = new AddressBook();
+            replayed.setPersons(persons);
+            replayed.setTags(tags);
+            return new AddressBook(replayed);
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Only saves to {@link #getAddressBookFilePath()} are journaled, other locations get a full snapshot.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot current = AddressBookSnapshot.of(addressBook);
+        try {
+            if (lastSaved == null) {
+                compact(current);
+                return;
+            }
+
+            List<JournalRecord> records = toRecords(AddressBookDelta.between(lastSaved, current));
+            if (journalRecordCount + records.size() > compactionThreshold) {
+                compact(current);
+                return;
+            }
+            appendToJournal(records);
+            journalRecordCount += records.size();
+            lastSaved = current;
+        } catch (IOException ioe) {
+            lastSaved = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot and restarts the journal from it.
+     */
+    private void compact(AddressBookSnapshot addressBook) throws IOException {
+        String filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        String base = JsonUtil.toJsonLine(JournalRecord.base(computeChecksum(new File(filePath))));
+        byte[] journal = (base + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(new File(getJournalFilePath(filePath)), out -> out.write(journal));
+        journalRecordCount = 0;
+        lastSaved = addressBook;
+    }
+
+    /**
+     * Returns the journal records that make the same changes as {@code delta}.
+     */
+    private static List<JournalRecord> toRecords(AddressBookDelta delta) {
+        List<JournalRecord> records = new ArrayList<>();
+        for (AddressBookDelta.Hunk hunk : delta.getHunks()) {
+            List<Person> removed = hunk.getRemovedPersons();
+            List<Person> added = hunk.getAddedPersons();
+            if (removed.size() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    records.add(JournalRecord.updatePerson(hunk.getIndex() + i, added.get(i)));
+                }
+                continue;
+            }
+            for (int i = 0; i < removed.size(); i++) {
+                records.add(JournalRecord.deletePerson(hunk.getIndex()));
+            }
+            for (int i = 0; i < added.size(); i++) {
+                records.add(JournalRecord.addPerson(hunk.getIndex() + i, added.get(i)));
+            }
+        }
+        for (Tag tag : delta.getRemovedTags()) {
+            records.add(JournalRecord.deleteTag(tag));
+        }
+        for (Tag tag : delta.getAddedTags()) {
+            records.add(JournalRecord.addTag(tag));
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal as one save, followed by the commit record that completes it, and waits
+     * until they have reached the disk.
+     */
+    private void appendToJournal(List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        CRC32 saveChecksum = new CRC32();
+        for (JournalRecord record : records) {
+            String line = JsonUtil.toJsonLine(record);
+            lines.append(line).append(System.lineSeparator());
+            updateChecksum(saveChecksum, line);
+        }
+        JournalRecord commit = JournalRecord.commit(records.size(), saveChecksum.getValue());
+        lines.append(JsonUtil.toJsonLine(commit)).append(System.lineSeparator());
+        File journalFile = new File(getJournalFilePath(getAddressBookFilePath()));
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            out.getChannel().force(false);
+        }
+    }
+
+    private static long computeChecksum(File file) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(file.toPath()));
+        return checksum.getValue();
+    }
+
+    @Override
+    public String getBackupAddressBookFilePath() {
+        return snapshotStorage.getBackupAddressBookFilePath();
+    }
+
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.backupAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of a single change to the address book, as stored in the journal file.
+ * Meetings are stored as part of the person they belong to.
+ */
+public class JournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record does not fit the address book: %1$s";
+
+    /**
+     * The kinds of records in the journal.
+     * A journal always starts with a {@code BASE} record identifying the snapshot it applies to, and the records of
+     * each save are followed by a {@code COMMIT} record.
+     */
+    public enum Type { BASE, ADD_PERSON, UPDATE_PERSON, DELETE_PERSON, ADD_TAG, DELETE_TAG, COMMIT }
+
+    private Type type;
+    private int index;
+    private XmlAdaptedPerson person;
+    private String tagName;
+    private long snapshotChecksum;
+    private int recordCount;
+    private long recordsChecksum;
+
+    /**
+     * Constructs a JournalRecord.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    public JournalRecord() {}
+
+    private JournalRecord(Type type, int index, ReadOnlyPerson person, Tag tag) {
+        this.type = type;
+        this.index = index;
+        this.person = (person == null) ? null : new XmlAdaptedPerson(person);
+        this.tagName = (tag == null) ? null : tag.tagName;
+    }
+
+    /**
+     * Returns the record that starts a journal for the snapshot file with the given checksum.
+     */
+    public static JournalRecord base(long snapshotChecksum) {
+        JournalRecord record = new JournalRecord(Type.BASE, 0, null, null);
+        record.snapshotChecksum = snapshotChecksum;
+        return record;
+    }
+
+    /**
+     * Returns the record that ends a save of {@code recordCount} records, whose lines have the given checksum.
+     */
+    public static JournalRecord commit(int recordCount, long recordsChecksum) {
+        JournalRecord record = new JournalRecord(Type.COMMIT, 0, null, null);
+        record.recordCount = recordCount;
+        record.recordsChecksum = recordsChecksum;
+        return record;
+    }
+
+    public static JournalRecord addPerson(int index, ReadOnlyPerson person) {
+        return new JournalRecord(Type.ADD_PERSON, index, person, null);
+    }
+
+    public static JournalRecord updatePerson(int index, ReadOnlyPerson person) {
+        return new JournalRecord(Type.UPDATE_PERSON, index, person, null);
+    }
+
+    public static JournalRecord deletePerson(int index) {
+        return new JournalRecord(Type.DELETE_PERSON, index, null, null);
+    }
+
+    public static JournalRecord addTag(Tag tag) {
+        return new JournalRecord(Type.ADD_TAG, 0, null, tag);
+    }
+
+    public static JournalRecord deleteTag(Tag tag) {
+        return new JournalRecord(Type.DELETE_TAG, 0, null, tag);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public long getRecordsChecksum() {
+        return recordsChecksum;
+    }
+
+    /**
+     * Applies this record to the given {@code persons} and {@code tags}.
+     *
+     * @throws IllegalValueException if the record is incomplete, contains invalid data,
+     *      or refers to a position that is not in {@code persons}.
+     */
+    public void applyTo(List<ReadOnlyPerson> persons, Set<Tag> tags) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing type"));
+        }
+        switch (type) {
+        case BASE:
+        case COMMIT:
+            break;
+        case ADD_PERSON:
+            checkIndex(index, persons.size() + 1);
+            persons.add(index, requirePerson().toModelType());
+            break;
+        case UPDATE_PERSON:
+            checkIndex(index, persons.size());
+            persons.set(index, requirePerson().toModelType());
+            break;
+        case DELETE_PERSON:
+            checkIndex(index, persons.size());
+            persons.remove(index);
+            break;
+        case ADD_TAG:
+            tags.add(new Tag(requireTagName()));
+            break;
+        case DELETE_TAG:
+            tags.remove(new Tag(requireTagName()));
+            break;
+        default:
+            throw new AssertionError("Journal record type should always be valid");
+        }
+    }
+
+    private static void checkIndex(int index, int bound) throws IllegalValueException {
+        if (index < 0 || index >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "no person at index " + index));
+        }
+    }
+
+    private XmlAdaptedPerson requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+        }
+        return person;
+    }
+
+    private String requireTagName() throws IllegalValueException {
+        if (tagName == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing tag"));
+        }
+        return tagName;
+    }
+}
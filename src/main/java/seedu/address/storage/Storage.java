@@ -36,12 +36,19 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void backupAddressBook(ReadOnlyAddressBook addressBook);
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk, possibly in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
+    /**
+     * Saves any changes to the Address Book that have not been saved yet,
+     * and waits until they have been written to the hard disk.
+     * Must be called on the thread that changes the model.
+     */
+    void flushAddressBook();
+
     /**
      * Create a backup of the current version of Address Book to the hard disk.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
@@ -3,9 +3,16 @@ package seedu.address.storage;
 import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
@@ -15,11 +22,18 @@ import seedu.address.commons.events.storage.BackupFilePresentEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.storage.RestoreBackupDataEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes to the address book can be saved in the background: a burst of changes is coalesced into one save of the
+ * latest state, which happens once no change has been made for {@code saveDelayMillis}, but never more than
+ * {@code maxSaveDelayMillis} after the first unsaved change. The state to save is only copied when the save is due,
+ * on the thread that changes the model, and is then written on a background thread.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -27,11 +41,40 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final long saveDelayMillis;
+    private final long maxSaveDelayMillis;
+    /** Runs background saves one at a time, or null if changes are saved as soon as they are made. */
+    private final ScheduledExecutorService saveExecutor;
+    /** Runs tasks on the thread that changes the model, where its state can be copied consistently. */
+    private final Executor modelExecutor;
 
+    /** The address book with changes that have not been saved yet, or null if all changes have been saved. */
+    private ReadOnlyAddressBook unsavedAddressBook;
+    private ScheduledFuture<?> scheduledSave;
+    private long firstUnsavedChangeMillis;
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book as soon as they are made.
+     */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0, 0, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book in the background, copying the state to
+     * save with {@code modelExecutor}, which runs tasks on the thread that changes the model.
+     * If {@code saveDelayMillis} is 0, changes are saved as soon as they are made instead.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelayMillis, long maxSaveDelayMillis, Executor modelExecutor) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.maxSaveDelayMillis = Math.max(saveDelayMillis, maxSaveDelayMillis);
+        this.modelExecutor = modelExecutor;
+        this.saveExecutor = (saveDelayMillis <= 0) ? null : Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("addressbook-save").setDaemon(true).build());
     }
 
     // ================ UserPrefs methods ==============================
@@ -82,38 +125,104 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     //@@author LimYangSheng
+    @Override
+    public String getBackupAddressBookFilePath() {
+        return addressBookStorage.getBackupAddressBookFilePath();
+    }
+
     @Override
     public void backupAddressBook(ReadOnlyAddressBook addressBook) {
-        String backupAddressBookFilePath = createBackupAddressBookFilePath(addressBookStorage.getAddressBookFilePath());
-        logger.info("Attempting to backup data to data file: " + backupAddressBookFilePath);
+        logger.info("Attempting to backup data to data file: " + getBackupAddressBookFilePath());
         try {
-            saveAddressBook(addressBook, backupAddressBookFilePath);
+            addressBookStorage.backupAddressBook(addressBook);
         } catch (IOException e) {
             raise (new DataSavingExceptionEvent(e));
         }
     }
 
-    /**
-     * Creates file path of the backup data file.
-     */
-    private String createBackupAddressBookFilePath(String addressBookFilePath) {
-        String nameOfFile = addressBookFilePath.split("[.]")[0];
-        String nameOfBackupFile = nameOfFile + "-backup.xml";
-        return nameOfBackupFile;
-    }
-
     //@@author
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saveExecutor == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+            saveAddressBookAndRaiseOnFailure(event.data);
+            return;
+        }
+
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        scheduleSave(event.data);
+    }
+
+    /**
+     * Schedules a background save of the state {@code addressBook} is in when the save is due, replacing any save
+     * that is not due yet.
+     */
+    private synchronized void scheduleSave(ReadOnlyAddressBook addressBook) {
+        long now = System.currentTimeMillis();
+        if (unsavedAddressBook == null) {
+            firstUnsavedChangeMillis = now;
+        }
+        unsavedAddressBook = addressBook;
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        long delay = Math.min(saveDelayMillis, firstUnsavedChangeMillis + maxSaveDelayMillis - now);
+        // the save thread never waits for the model thread, which may itself be waiting in flushAddressBook()
+        scheduledSave = saveExecutor.schedule(() -> modelExecutor.execute(this::submitUnsavedAddressBook),
+                Math.max(delay, 0), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Copies the state of the unsaved address book, if any, and submits a background save of the copy.
+     * Must be called on the thread that changes the model.
+     */
+    private void submitUnsavedAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = unsavedAddressBook;
+            unsavedAddressBook = null;
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+        if (addressBook == null) {
+            return;
+        }
+        // The snapshot only copies references, and is safe to save after the model has moved on.
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        saveExecutor.execute(() -> {
+            logger.info("Saving coalesced changes to file: " + getAddressBookFilePath());
+            saveAddressBookAndRaiseOnFailure(snapshot);
+        });
+    }
+
+    private void saveAddressBookAndRaiseOnFailure(ReadOnlyAddressBook addressBook) {
         try {
-            saveAddressBook(event.data);
+            saveAddressBook(addressBook);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    public void flushAddressBook() {
+        if (saveExecutor == null) {
+            return;
+        }
+        submitUnsavedAddressBook();
+        try {
+            // Saves run one at a time, so this waits for every save submitted so far.
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for address book to be saved");
+        } catch (ExecutionException ee) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(ee.getCause()));
+        }
+    }
+
     //@@author LimYangSheng
     @Override
     @Subscribe
@@ -127,16 +236,14 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleRestoreBackupDataEvent(RestoreBackupDataEvent event) throws DataConversionException, IOException {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         ReadOnlyAddressBook backupAddressBookData;
-        String backupFilePath = createBackupAddressBookFilePath(addressBookStorage.getAddressBookFilePath());
-        backupAddressBookData = readAddressBook(backupFilePath).get();
+        backupAddressBookData = readAddressBook(getBackupAddressBookFilePath()).get();
         event.updateAddressBookData(backupAddressBookData);
     }
 
     @Override
     @Subscribe
     public void handleBackupFilePresentEvent(BackupFilePresentEvent event) {
-        String backupAddressBookFilePath = createBackupAddressBookFilePath(addressBookStorage.getAddressBookFilePath());
-        File f = new File(backupAddressBookFilePath);
+        File f = new File(getBackupAddressBookFilePath());
         if (f.exists()) {
             event.updateBackupFilePresenceStatus(true);
         } else {
@@ -22,6 +22,14 @@ public class XmlAdaptedMeeting implements XmlAdaptedClass<Meeting> {
      */
     public XmlAdaptedMeeting() {}
 
+    /**
+     * Constructs an XmlAdaptedMeeting from values that were read without JAXB.
+     */
+    XmlAdaptedMeeting(String meetingName, String meetingTime) {
+        this.meetingName = meetingName;
+        this.meetingTime = meetingTime;
+    }
+
     /**
      * Converts a given Meeting into this class for JAXB use.
      *
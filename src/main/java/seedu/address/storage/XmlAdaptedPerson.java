@@ -52,6 +52,21 @@ public class XmlAdaptedPerson implements XmlAdaptedClass<ReadOnlyPerson> {
      */
     public XmlAdaptedPerson() {}
 
+    /**
+     * Constructs an XmlAdaptedPerson from values that were read without JAXB.
+     */
+    XmlAdaptedPerson(String name, String phone, String email, String address, String note, String id,
+                     String lastUpdated, List<XmlAdaptedTag> tagged, List<XmlAdaptedMeeting> meetings) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.note = note;
+        this.id = id;
+        this.lastUpdated = lastUpdated;
+        this.tagged = tagged;
+        this.meetings = meetings;
+    }
 
     /**
      * Converts a given Person into this class for JAXB use.
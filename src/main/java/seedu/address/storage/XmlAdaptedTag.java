@@ -19,6 +19,13 @@ public class XmlAdaptedTag implements XmlAdaptedClass<Tag> {
      */
     public XmlAdaptedTag() {}
 
+    /**
+     * Constructs an XmlAdaptedTag from a tag name that was read without JAXB.
+     */
+    XmlAdaptedTag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
      * Converts a given Tag into this class for JAXB use.
      *
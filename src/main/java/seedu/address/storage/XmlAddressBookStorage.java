@@ -21,9 +21,19 @@ public class XmlAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
+    private final boolean atomicSave;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * @param atomicSave if true, files are replaced in a single step when saving, so that a crash cannot leave them
+     *                   partly written. Otherwise files are overwritten in place.
+     */
+    public XmlAddressBookStorage(String filePath, boolean atomicSave) {
         this.filePath = filePath;
+        this.atomicSave = atomicSave;
     }
 
     public String getAddressBookFilePath() {
@@ -51,7 +61,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadAddressBookFromFile(new File(filePath));
 
         return Optional.of(addressBookOptional);
     }
@@ -70,23 +80,22 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         File file = new File(filePath);
+        if (atomicSave) {
+            XmlFileStorage.saveAddressBookToFileAtomically(file, addressBook);
+            return;
+        }
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveAddressBookToFile(file, addressBook);
     }
 
     @Override
     public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        String backupAddressBookFilePath = createBackupAddressBookFilePath(filePath);
-        saveAddressBook(addressBook, backupAddressBookFilePath);
+        saveAddressBook(addressBook, getBackupAddressBookFilePath());
     }
 
-    /**
-     * Creates file path of the backup data file.
-     * @param addressBookFilePath cannot be null.
-     * @return file path for backup address book.
-     */
-    private String createBackupAddressBookFilePath(String addressBookFilePath) {
-        String nameOfFile = addressBookFilePath.split("[.]")[0];
+    @Override
+    public String getBackupAddressBookFilePath() {
+        String nameOfFile = filePath.split("[.]")[0];
         String nameOfBackupFile = nameOfFile + "-backup.xml";
         return nameOfBackupFile;
     }
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Stores addressbook data in an XML file
@@ -36,4 +39,28 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given addressbook data to the specified file, one person at a time.
+     */
+    public static void saveAddressBookToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        XmlStreamAddressBookCodec.saveAddressBook(file, addressBook);
+    }
+
+    /**
+     * Replaces the contents of the specified file with the given addressbook data in a single step, so that the file
+     * is never left partly written.
+     */
+    public static void saveAddressBookToFileAtomically(File file, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        FileUtil.writeAtomically(file, out -> XmlStreamAddressBookCodec.saveAddressBook(out, addressBook));
+    }
+
+    /**
+     * Returns address book in the file, reading it one person at a time.
+     */
+    public static ReadOnlyAddressBook loadAddressBookFromFile(File file) throws DataConversionException,
+                                                                               FileNotFoundException {
+        return XmlStreamAddressBookCodec.readAddressBook(file);
+    }
+
 }
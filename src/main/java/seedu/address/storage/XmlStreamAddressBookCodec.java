@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address books in the same xml format as {@link XmlSerializableAddressBook}, one person at a time.
+ *
+ * Each {@code <persons>} element is turned into a {@code Person} as soon as it has been read, and persons are written
+ * straight from the {@code ReadOnlyAddressBook}, so apart from the address book itself only one record is held in
+ * memory at any time.
+ */
+public class XmlStreamAddressBookCodec {
+
+    static final String ELEMENT_ADDRESS_BOOK = "addressbook";
+    static final String ELEMENT_PERSON = "persons";
+    static final String ELEMENT_TAG = "tags";
+    static final String ELEMENT_MEETING = "meetings";
+    static final String ELEMENT_NAME = "name";
+    static final String ELEMENT_PHONE = "phone";
+    static final String ELEMENT_EMAIL = "email";
+    static final String ELEMENT_ADDRESS = "address";
+    static final String ELEMENT_NOTE = "note";
+    static final String ELEMENT_ID = "id";
+    static final String ELEMENT_LAST_UPDATED = "lastUpdated";
+    static final String ELEMENT_PERSON_TAG = "tagged";
+    static final String ELEMENT_PERSON_MEETING = "meetings";
+    static final String ELEMENT_MEETING_NAME = "meetingName";
+    static final String ELEMENT_MEETING_TIME = "meetingTime";
+
+    private static final String ENCODING = "UTF-8";
+    private static final String INDENT = "    ";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlStreamAddressBookCodec.class);
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     * Persons and tags that do not meet the model's constraints are left out, as with
+     * {@link XmlSerializableAddressBook}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static ReadOnlyAddressBook readAddressBook(File file) throws DataConversionException,
+                                                                        FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return readAddressBook(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        reader.require(XMLStreamConstants.START_ELEMENT, null, ELEMENT_ADDRESS_BOOK);
+
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        Set<Tag> tags = new LinkedHashSet<>();
+        Set<Meeting> meetings = new LinkedHashSet<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            try {
+                switch (reader.getLocalName()) {
+                case ELEMENT_PERSON:
+                    Person person = readPerson(reader).toModelType();
+                    persons.add(person);
+                    meetings.addAll(person.getMeetings());
+                    break;
+                case ELEMENT_TAG:
+                    tags.add(new XmlAdaptedTag(reader.getElementText()).toModelType());
+                    break;
+                default:
+                    // Meetings are rebuilt from the persons they belong to.
+                    skipElement(reader);
+                }
+            } catch (IllegalValueException ive) {
+                logger.warning("Illegal data found in storage.");
+            }
+        }
+        return new DecodedAddressBook(persons, new ArrayList<>(tags), new ArrayList<>(meetings));
+    }
+
+    /**
+     * Reads the {@code <persons>} element the reader is at, leaving the reader at its end tag.
+     *
+     * @throws IllegalValueException if a required field is missing. The rest of the element is skipped.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException,
+                                                                              IllegalValueException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String note = null;
+        String id = null;
+        String lastUpdated = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        List<XmlAdaptedMeeting> meetings = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ELEMENT_NAME:
+                name = reader.getElementText();
+                break;
+            case ELEMENT_PHONE:
+                phone = reader.getElementText();
+                break;
+            case ELEMENT_EMAIL:
+                email = reader.getElementText();
+                break;
+            case ELEMENT_ADDRESS:
+                address = reader.getElementText();
+                break;
+            case ELEMENT_NOTE:
+                note = reader.getElementText();
+                break;
+            case ELEMENT_ID:
+                id = reader.getElementText();
+                break;
+            case ELEMENT_LAST_UPDATED:
+                lastUpdated = reader.getElementText();
+                break;
+            case ELEMENT_PERSON_TAG:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case ELEMENT_PERSON_MEETING:
+                meetings.add(readMeeting(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (name == null || phone == null || email == null || address == null || note == null || id == null
+                || lastUpdated == null) {
+            throw new IllegalValueException("Person is missing a required field");
+        }
+        return new XmlAdaptedPerson(name, phone, email, address, note, id, lastUpdated, tagged, meetings);
+    }
+
+    /**
+     * Reads the meeting element the reader is at, leaving the reader at its end tag.
+     */
+    private static XmlAdaptedMeeting readMeeting(XMLStreamReader reader) throws XMLStreamException {
+        String meetingName = null;
+        String meetingTime = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ELEMENT_MEETING_NAME:
+                meetingName = reader.getElementText();
+                break;
+            case ELEMENT_MEETING_TIME:
+                meetingTime = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedMeeting(meetingName, meetingTime);
+    }
+
+    /**
+     * Skips the element the reader is at, including all its children, leaving the reader at its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code file}, overwriting its contents.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void saveAddressBook(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            saveAddressBook(out, addressBook);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, leaving {@code out} open.
+     *
+     * @throws IOException if there was an error writing to the stream.
+     */
+    public static void saveAddressBook(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(out);
+        requireNonNull(addressBook);
+
+        try {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+            try {
+                writeAddressBook(writer, addressBook);
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException xse) {
+            throw new IOException(xse);
+        }
+    }
+
+    private static void writeAddressBook(XMLStreamWriter writer, ReadOnlyAddressBook addressBook)
+            throws XMLStreamException {
+        writer.writeStartDocument(ENCODING, "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ELEMENT_ADDRESS_BOOK);
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            writeTextElement(writer, 1, ELEMENT_TAG, tag.tagName);
+        }
+        for (Meeting meeting : addressBook.getMeetingList()) {
+            writeMeeting(writer, 1, ELEMENT_MEETING, meeting);
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+    }
+
+    private static void writePerson(XMLStreamWriter writer, ReadOnlyPerson person) throws XMLStreamException {
+        startElement(writer, 1, ELEMENT_PERSON);
+        writeTextElement(writer, 2, ELEMENT_NAME, person.getName().fullName);
+        writeTextElement(writer, 2, ELEMENT_PHONE, person.getPhone().value);
+        writeTextElement(writer, 2, ELEMENT_EMAIL, person.getEmail().value);
+        writeTextElement(writer, 2, ELEMENT_ADDRESS, person.getAddress().value);
+        writeTextElement(writer, 2, ELEMENT_NOTE, person.getNote().getValue());
+        writeTextElement(writer, 2, ELEMENT_ID, person.getId().getValue());
+        writeTextElement(writer, 2, ELEMENT_LAST_UPDATED, person.getLastUpdated().getValue());
+        for (Tag tag : person.getTags()) {
+            writeTextElement(writer, 2, ELEMENT_PERSON_TAG, tag.tagName);
+        }
+        for (Meeting meeting : person.getMeetings()) {
+            writeMeeting(writer, 2, ELEMENT_PERSON_MEETING, meeting);
+        }
+        endElement(writer, 1);
+    }
+
+    private static void writeMeeting(XMLStreamWriter writer, int depth, String elementName, Meeting meeting)
+            throws XMLStreamException {
+        startElement(writer, depth, elementName);
+        writeTextElement(writer, depth + 1, ELEMENT_MEETING_NAME, meeting.meetingName);
+        writeTextElement(writer, depth + 1, ELEMENT_MEETING_TIME, meeting.value);
+        endElement(writer, depth);
+    }
+
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String elementName, String text)
+            throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        startElement(writer, depth, elementName);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void startElement(XMLStreamWriter writer, int depth, String elementName)
+            throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeStartElement(elementName);
+    }
+
+    private static void endElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        indent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    private static void indent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        StringBuilder indentation = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indentation.append(INDENT);
+        }
+        writer.writeCharacters(indentation.toString());
+    }
+}
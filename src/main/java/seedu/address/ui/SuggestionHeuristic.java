@@ -17,7 +17,6 @@ import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.commands.AddTagCommand;
 import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
-import seedu.address.logic.commands.CommandWordList;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteMeetingCommand;
 import seedu.address.logic.commands.DeleteTagCommand;
@@ -37,6 +36,7 @@ import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.CommandRegistry;
 import seedu.address.model.person.ReadOnlyPerson;
 
 //@@author newalter
@@ -58,7 +58,7 @@ public class SuggestionHeuristic {
 
     public SuggestionHeuristic() {
         EventsCenter.getInstance().registerHandler(this);
-        commands.addAll(CommandWordList.COMMAND_WORD_LIST);
+        commands.addAll(CommandRegistry.getCommandWords());
         sortFields.addAll(Arrays.asList(SORT_FIELD_LIST));
     }
 
@@ -103,14 +103,15 @@ public class SuggestionHeuristic {
      * @return a SortedSet for generating suggestions
      */
     private SortedSet<String> getSuggestionSet(String prefixWords) {
-        String commandWord = prefixWords.trim().split("\\s+")[0];
+        // aliases get the same suggestions as their command words
+        String commandWord = CommandRegistry.getCommandWord(prefixWords.trim().split("\\s+")[0]).orElse("");
 
         switch (commandWord) {
 
         // commands that uses prefixes for arguments
-        case AddCommand.COMMAND_WORD: case AddCommand.COMMAND_ALIAS:
-        case EditCommand.COMMAND_WORD: case EditCommand.COMMAND_ALIAS:
-        case FindCommand.COMMAND_WORD: case FindCommand.COMMAND_ALIAS:
+        case AddCommand.COMMAND_WORD:
+        case EditCommand.COMMAND_WORD:
+        case FindCommand.COMMAND_WORD:
             int lastSlash = prefixWords.lastIndexOf("/");
             if (lastSlash - 1 <= 0) {
                 return empty;
@@ -131,42 +132,42 @@ public class SuggestionHeuristic {
             }
 
         // commands specifying meeting
-        case AddMeetingCommand.COMMAND_WORD: case AddMeetingCommand.COMMAND_ALIAS:
-        case DeleteMeetingCommand.COMMAND_WORD: case DeleteMeetingCommand.COMMAND_ALIAS:
+        case AddMeetingCommand.COMMAND_WORD:
+        case DeleteMeetingCommand.COMMAND_WORD:
             //TODO: BETTER SUGGESTIONS FOR MEETINGS
             return empty;
 
         // commands specifying tag in argument
-        case AddTagCommand.COMMAND_WORD: case AddTagCommand.COMMAND_ALIAS:
-        case DeleteTagCommand.COMMAND_WORD: case DeleteTagCommand.COMMAND_ALIAS:
+        case AddTagCommand.COMMAND_WORD:
+        case DeleteTagCommand.COMMAND_WORD:
             return tags;
 
         // commands with no argument or single number argument
-        case BackupCommand.COMMAND_WORD: case BackupCommand.COMMAND_ALIAS:
-        case ClearCommand.COMMAND_WORD: case ClearCommand.COMMAND_ALIAS:
-        case DeleteCommand.COMMAND_WORD: case DeleteCommand.COMMAND_ALIAS:
-        case ExitCommand.COMMAND_WORD: case ExitCommand.COMMAND_ALIAS:
-        case HelpCommand.COMMAND_WORD: case HelpCommand.COMMAND_ALIAS:
-        case HistoryCommand.COMMAND_WORD: case HistoryCommand.COMMAND_ALIAS:
-        case LoginCommand.COMMAND_WORD: case LoginCommand.COMMAND_ALIAS:
-        case LogoutCommand.COMMAND_WORD: case LogoutCommand.COMMAND_ALIAS:
-        case ListCommand.COMMAND_WORD: case ListCommand.COMMAND_ALIAS:
-        case SyncCommand.COMMAND_WORD: case SyncCommand.COMMAND_ALIAS:
-        case UndoCommand.COMMAND_WORD: case UndoCommand.COMMAND_ALIAS:
-        case RedoCommand.COMMAND_WORD: case RedoCommand.COMMAND_ALIAS:
-        case RestoreBackupCommand.COMMAND_WORD: case RestoreBackupCommand.COMMAND_ALIAS:
-        case SelectCommand.COMMAND_WORD: case SelectCommand.COMMAND_ALIAS:
+        case BackupCommand.COMMAND_WORD:
+        case ClearCommand.COMMAND_WORD:
+        case DeleteCommand.COMMAND_WORD:
+        case ExitCommand.COMMAND_WORD:
+        case HelpCommand.COMMAND_WORD:
+        case HistoryCommand.COMMAND_WORD:
+        case LoginCommand.COMMAND_WORD:
+        case LogoutCommand.COMMAND_WORD:
+        case ListCommand.COMMAND_WORD:
+        case SyncCommand.COMMAND_WORD:
+        case UndoCommand.COMMAND_WORD:
+        case RedoCommand.COMMAND_WORD:
+        case RestoreBackupCommand.COMMAND_WORD:
+        case SelectCommand.COMMAND_WORD:
             return empty;
 
         // stand alone special commands
-        case NoteCommand.COMMAND_WORD: case NoteCommand.COMMAND_ALIAS:
+        case NoteCommand.COMMAND_WORD:
             //TODO: BETTER SUGGESTIONS FOR NOTES
             return empty;
 
-        case ResizeCommand.COMMAND_WORD: case ResizeCommand.COMMAND_ALIAS:
+        case ResizeCommand.COMMAND_WORD:
             return windowSizes;
 
-        case SortCommand.COMMAND_WORD: case SortCommand.COMMAND_ALIAS:
+        case SortCommand.COMMAND_WORD:
             return sortFields;
 
         // incomplete or wrong command word
@@ -74,6 +74,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        storage.flushAddressBook();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
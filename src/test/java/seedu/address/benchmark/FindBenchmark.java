@@ -0,0 +1,113 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.ParallelPersonFilter;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicate.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.search.IndexedKeywordsPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.WildcardMatcher;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how many persons per second the find predicates can test.
+ * This is not a test; run it with {@code gradlew findBenchmark}, optionally passing the number of persons to
+ * search with {@code -Psize=100000}.
+ */
+public class FindBenchmark {
+
+    private static final int DEFAULT_SIZE = 100000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 20;
+    private static final List<String> KEYWORDS = Arrays.asList("Person", "12?4*", "*7");
+
+    public static void main(String[] args) {
+        int size = (args.length == 0) ? DEFAULT_SIZE : Integer.parseInt(args[0]);
+        List<ReadOnlyPerson> persons = buildPersons(size);
+
+        System.out.println(String.format("%-28s %10s %16s", "predicate", "persons", "persons / s"));
+        measure("name, regex per test", new UncompiledNamePredicate(KEYWORDS), persons);
+        measure("name, precompiled", new NameContainsKeywordsPredicate(KEYWORDS), persons);
+
+        PersonSearchIndex index = new PersonSearchIndex();
+        persons.forEach(index::add);
+        measure("name, inverted index", new IndexedKeywordsPredicate(index, SearchField.NAME, KEYWORDS), persons);
+
+        Predicate<ReadOnlyPerson> severalFields = new NameContainsKeywordsPredicate(KEYWORDS)
+                .or(new EmailContainsKeywordsPredicate(Collections.singletonList("*9?@*")))
+                .or(new AddressContainsKeywordsPredicate(Collections.singletonList("*7")));
+        measure("3 fields, serial", severalFields, persons);
+        measureCounting("3 fields, parallel",
+                list -> ParallelPersonFilter.evaluate(list, severalFields).cardinality(), persons);
+    }
+
+    /**
+     * Prints the median number of persons per second that {@code predicate} tests serially.
+     */
+    private static void measure(String name, Predicate<ReadOnlyPerson> predicate, List<ReadOnlyPerson> persons) {
+        measureCounting(name, list -> (int) list.stream().filter(predicate).count(), persons);
+    }
+
+    /**
+     * Prints the median number of persons per second that {@code countMatches} counts the matches of.
+     */
+    private static void measureCounting(String name, ToIntFunction<List<ReadOnlyPerson>> countMatches,
+                                        List<ReadOnlyPerson> persons) {
+        List<Long> times = new ArrayList<>();
+        int matches = 0;
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            matches = countMatches.applyAsInt(persons);
+            long end = System.nanoTime();
+            if (run >= WARMUP_RUNS) {
+                times.add(end - start);
+            }
+        }
+        Collections.sort(times);
+        double personsPerSecond = persons.size() / (times.get(times.size() / 2) / 1e9);
+        System.out.println(String.format("%-28s %10d %16.0f (%d matches)", name, persons.size(), personsPerSecond,
+                matches));
+    }
+
+    private static List<ReadOnlyPerson> buildPersons(int size) {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i + " Lee").withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").withAddress(i + ", Clementi Ave " + (i % 10))
+                    .withTags("friends", "group" + (i % 20)).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Tests names the way the find predicates used to, matching each word against each keyword's regex.
+     */
+    private static class UncompiledNamePredicate implements Predicate<ReadOnlyPerson> {
+        private final List<String> keywords;
+
+        UncompiledNamePredicate(List<String> keywords) {
+            this.keywords = WildcardMatcher.processKeywords(keywords);
+        }
+
+        @Override
+        public boolean test(ReadOnlyPerson person) {
+            for (String name : person.getName().fullName.split("\\s+")) {
+                for (String keyword : keywords) {
+                    if (name.toLowerCase().matches(keyword)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.XmlSerializableAddressBook;
+import seedu.address.storage.XmlStreamAddressBookCodec;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to save and load address books of different sizes.
+ * This is not a test; run it with {@code gradlew storageBenchmark}, optionally passing the address book sizes to
+ * measure with {@code -Psizes=1000,10000}.
+ */
+public class StorageBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1000, 10000, 100000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    /**
+     * A way of saving and loading an address book that is being measured.
+     */
+    private interface Codec {
+        void save(File file, AddressBook addressBook) throws Exception;
+        void load(File file) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = (args.length == 0) ? DEFAULT_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        File file = File.createTempFile("benchmark", ".xml");
+        file.deleteOnExit();
+
+        System.out.println(String.format("%-24s %10s %12s %12s", "codec", "persons", "save (ms)", "load (ms)"));
+        for (int size : sizes) {
+            AddressBook addressBook = buildAddressBook(size);
+            measure("jaxb, new context", new UncachedJaxbCodec(), file, addressBook);
+            measure("jaxb, cached context", new XmlUtilCodec(), file, addressBook);
+            measure("stax, streaming", new XmlStreamCodec(), file, addressBook);
+            measure("binary", new BinaryCodec(), file, addressBook);
+        }
+    }
+
+    /**
+     * Prints the median save and load times of {@code codec} for {@code addressBook}.
+     */
+    private static void measure(String name, Codec codec, File file, AddressBook addressBook) throws Exception {
+        List<Long> saveTimes = new ArrayList<>();
+        List<Long> loadTimes = new ArrayList<>();
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            codec.save(file, addressBook);
+            long saved = System.nanoTime();
+            codec.load(file);
+            long loaded = System.nanoTime();
+            if (run >= WARMUP_RUNS) {
+                saveTimes.add(saved - start);
+                loadTimes.add(loaded - saved);
+            }
+        }
+        System.out.println(String.format("%-24s %10d %12.2f %12.2f", name, addressBook.getPersonList().size(),
+                median(saveTimes) / 1e6, median(loadTimes) / 1e6));
+    }
+
+    private static long median(List<Long> times) {
+        Collections.sort(times);
+        return times.get(times.size() / 2);
+    }
+
+    private static AddressBook buildAddressBook(int size) {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.withPerson(new PersonBuilder().withName("Person " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com").withAddress(i + ", Clementi Ave " + (i % 10))
+                    .withTags("friends", "group" + (i % 20)).build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Saves and loads through {@link XmlUtil}, which reuses its JAXB context and marshallers.
+     */
+    private static class XmlUtilCodec implements Codec {
+        @Override
+        public void save(File file, AddressBook addressBook) throws Exception {
+            XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        }
+
+        @Override
+        public void load(File file) throws Exception {
+            new AddressBook(XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class));
+        }
+    }
+
+    /**
+     * Saves and loads one person at a time through {@link XmlStreamAddressBookCodec}.
+     */
+    private static class XmlStreamCodec implements Codec {
+        @Override
+        public void save(File file, AddressBook addressBook) throws Exception {
+            XmlStreamAddressBookCodec.saveAddressBook(file, addressBook);
+        }
+
+        @Override
+        public void load(File file) throws Exception {
+            new AddressBook(XmlStreamAddressBookCodec.readAddressBook(file));
+        }
+    }
+
+    /**
+     * Saves and loads through {@link BinaryAddressBookStorage}.
+     */
+    private static class BinaryCodec implements Codec {
+        @Override
+        public void save(File file, AddressBook addressBook) throws Exception {
+            new BinaryAddressBookStorage(file.getPath(), false).saveAddressBook(addressBook);
+        }
+
+        @Override
+        public void load(File file) throws Exception {
+            new AddressBook(new BinaryAddressBookStorage(file.getPath(), false).readAddressBook().get());
+        }
+    }
+
+    /**
+     * Saves and loads with a new JAXB context every time, as {@link XmlUtil} used to.
+     */
+    private static class UncachedJaxbCodec implements Codec {
+        @Override
+        public void save(File file, AddressBook addressBook) throws JAXBException {
+            Marshaller m = JAXBContext.newInstance(XmlSerializableAddressBook.class).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            m.marshal(new XmlSerializableAddressBook(addressBook), file);
+        }
+
+        @Override
+        public void load(File file) throws JAXBException {
+            new AddressBook((XmlSerializableAddressBook) JAXBContext.newInstance(XmlSerializableAddressBook.class)
+                    .createUnmarshaller().unmarshal(file));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -120,6 +121,23 @@ public class CollectionUtilTest {
         }
     }
 
+    @Test
+    public void topK() {
+        List<String> words = Arrays.asList("bb", "a", "dddd", "ccc", "ee", "f");
+
+        // fewer items than k
+        assertEquals(Arrays.asList("dddd", "ccc", "bb", "ee", "a", "f"),
+                CollectionUtil.topK(words, String::length, 10));
+
+        // ties keep their original order
+        assertEquals(Arrays.asList("dddd", "ccc", "bb", "ee"), CollectionUtil.topK(words, String::length, 4));
+        assertEquals(Arrays.asList("a", "f"), CollectionUtil.topK(words, word -> -word.length(), 2));
+
+        // no items wanted
+        assertEquals(Collections.emptyList(), CollectionUtil.topK(words, String::length, 0));
+        assertEquals(Collections.emptyList(), CollectionUtil.topK(Collections.<String>emptyList(), String::length, 3));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Collection<?>)} throw {@code NullPointerException}
      * if {@code collection} or any element of {@code collection} is null.
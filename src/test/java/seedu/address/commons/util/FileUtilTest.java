@@ -1,18 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class FileUtilTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void getPath() {
 
@@ -28,4 +35,37 @@ public class FileUtilTest {
         FileUtil.getPath("folder");
     }
 
+    @Test
+    public void writeAtomically_missingFile_fileCreated() throws Exception {
+        File file = new File(testFolder.getRoot(), FileUtil.getPath("sub-folder/file.txt"));
+        FileUtil.writeAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_contentsReplaced() throws Exception {
+        File file = testFolder.newFile("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertArrayEquals(new String[] {"file.txt"}, testFolder.getRoot().list());
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        File file = testFolder.newFile("file.txt");
+        FileUtil.writeToFile(file, "old");
+        try {
+            FileUtil.writeAtomically(file, out -> {
+                out.write("partial".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("dummy exception");
+            });
+        } catch (IOException expected) {
+            assertEquals("old", FileUtil.readFromFile(file));
+            assertArrayEquals(new String[] {"file.txt"}, testFolder.getRoot().list());
+            return;
+        }
+        throw new AssertionError("IOException expected");
+    }
+
 }
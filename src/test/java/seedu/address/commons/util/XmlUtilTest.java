@@ -4,6 +4,11 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 
@@ -94,4 +99,21 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
         assertEquals((new AddressBook(dataToWrite)).toString(), (new AddressBook(dataFromFile)).toString());
     }
+
+    @Test
+    public void getDataFromFile_concurrentReads_allValidResults() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<XmlSerializableAddressBook>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> XmlUtil.getDataFromFile(VALID_FILE,
+                        XmlSerializableAddressBook.class)));
+            }
+            for (Future<XmlSerializableAddressBook> result : results) {
+                assertEquals(9, result.get().getPersonList().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static seedu.address.logic.commands.FindCommand.FALSE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.ContainsTagsPredicate;
+import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class FindResultCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void toKey_sameKeywordsInAnyCaseOrOrder_sameKey() {
+        List<Predicate<ReadOnlyPerson>> predicates = Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "bob")), FALSE,
+                new ContainsTagsPredicate(Collections.singletonList("VIP")));
+        List<Predicate<ReadOnlyPerson>> samePredicates = Arrays.asList(
+                new ContainsTagsPredicate(Collections.singletonList("vip")),
+                new NameContainsKeywordsPredicate(Arrays.asList("BOB", "alice", "bob")));
+        assertEquals(FindResultCache.toKey(predicates), FindResultCache.toKey(samePredicates));
+    }
+
+    @Test
+    public void toKey_notKeywordsPredicate_noKey() {
+        assertFalse(FindResultCache.toKey(Collections.singletonList(unused -> true)).isPresent());
+    }
+
+    @Test
+    public void getMatches_repeatedFind_computedOnce() {
+        FindResultCache cache = newCache(FindResultCache.DEFAULT_CAPACITY);
+        List<Predicate<ReadOnlyPerson>> predicates = namePredicates("meier");
+
+        assertEquals(setOf(BENSON, DANIEL), getMatches(cache, predicates));
+        assertEquals(setOf(BENSON, DANIEL), cache.getMatches(predicates, () -> {
+            fail("Cached matches should not be computed again");
+            return null;
+        }).get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void getMatches_addressBookChanged_matchesUpdated() throws Exception {
+        FindResultCache cache = newCache(FindResultCache.DEFAULT_CAPACITY);
+        List<Predicate<ReadOnlyPerson>> meierPredicates = namePredicates("meier");
+        List<Predicate<ReadOnlyPerson>> alicePredicates = namePredicates("alice");
+        getMatches(cache, meierPredicates);
+        getMatches(cache, alicePredicates);
+
+        addressBook.addPerson(HOON);
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withName("Benson Muller").build();
+        addressBook.updatePerson(BENSON, editedBenson);
+
+        assertEquals(setOf(DANIEL, HOON), getMatches(cache, meierPredicates));
+        assertEquals(setOf(ALICE), getMatches(cache, alicePredicates));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void getMatches_addressBookChangedWhileEmpty_matchesComputedFromCurrentState() throws Exception {
+        FindResultCache cache = newCache(FindResultCache.DEFAULT_CAPACITY);
+        addressBook.addPerson(HOON);
+        List<Predicate<ReadOnlyPerson>> meierPredicates = namePredicates("meier");
+        assertEquals(setOf(BENSON, DANIEL, HOON), getMatches(cache, meierPredicates));
+
+        // changes after the first cached result are still followed
+        addressBook.removePerson(DANIEL);
+        assertEquals(setOf(BENSON, HOON), getMatches(cache, meierPredicates));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void getMatches_personsSorted_matchesUnchanged() {
+        FindResultCache cache = newCache(FindResultCache.DEFAULT_CAPACITY);
+        List<Predicate<ReadOnlyPerson>> meierPredicates = namePredicates("meier");
+        getMatches(cache, meierPredicates);
+
+        addressBook.sort("phone");
+
+        assertEquals(setOf(BENSON, DANIEL), getMatches(cache, meierPredicates));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void getMatches_capacityExceeded_leastRecentlyUsedEvicted() {
+        FindResultCache cache = newCache(2);
+        getMatches(cache, namePredicates("meier"));
+        getMatches(cache, namePredicates("alice"));
+        getMatches(cache, namePredicates("meier"));
+        getMatches(cache, namePredicates("kurz"));
+
+        // "alice" was used least recently
+        getMatches(cache, namePredicates("meier"));
+        getMatches(cache, namePredicates("alice"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    private FindResultCache newCache(int capacity) {
+        return new FindResultCache(capacity, addressBook.getPersonList());
+    }
+
+    private static List<Predicate<ReadOnlyPerson>> namePredicates(String... keywords) {
+        return Arrays.asList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)), FALSE, FALSE, FALSE, FALSE);
+    }
+
+    /**
+     * Returns the matches of {@code predicates} from {@code cache}, computing them from the address book on a miss.
+     */
+    private Set<ReadOnlyPerson> getMatches(FindResultCache cache, List<Predicate<ReadOnlyPerson>> predicates) {
+        return cache.getMatches(predicates, () -> addressBook.getPersonList().stream()
+                .filter(person -> predicates.stream().anyMatch(predicate -> predicate.test(person)))
+                .collect(Collectors.toSet())).get();
+    }
+
+    private static Set<ReadOnlyPerson> setOf(ReadOnlyPerson... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -11,21 +17,34 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.google.OAuth;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager();
     private OAuth oauth = OAuth.getInstance();
     private ExecutorService executor = Executors.newSingleThreadExecutor();
@@ -52,6 +71,47 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeBatch_validCommands_singleChangeAndSingleUndo() throws Exception {
+        AddressBookChangedEventCounter counter = new AddressBookChangedEventCounter();
+        CommandResult result = logic.executeBatch(Arrays.asList(
+                PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON), DeleteCommand.COMMAND_WORD + " 1"));
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 3), result.feedbackToUser);
+        assertEquals(Arrays.asList(BENSON), model.getAddressBook().getPersonList());
+        assertEquals(1, counter.count);
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void executeBatch_invalidCommand_nothingExecuted() {
+        assertBatchFailure(Arrays.asList(PersonUtil.getAddCommand(ALICE), "uicfhmowqewca"), ParseException.class,
+                String.format(LogicManager.MESSAGE_INVALID_BATCH_COMMAND, 2, MESSAGE_UNKNOWN_COMMAND));
+        assertBatchFailure(Arrays.asList(PersonUtil.getAddCommand(ALICE), ListCommand.COMMAND_WORD),
+                ParseException.class, String.format(LogicManager.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                        LogicManager.MESSAGE_BATCH_COMMAND_NOT_UNDOABLE));
+    }
+
+    @Test
+    public void executeBatch_commandFails_addressBookUnchanged() {
+        AddressBookChangedEventCounter counter = new AddressBookChangedEventCounter();
+        assertBatchFailure(Arrays.asList(PersonUtil.getAddCommand(ALICE), DeleteCommand.COMMAND_WORD + " 9"),
+                CommandException.class, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        // the batch was rolled back, so there is no change to report
+        assertEquals(0, counter.count);
+    }
+
+    @Test
+    public void execute_repeatedFind_findResultCacheHit() throws Exception {
+        String findCommand = FindCommand.COMMAND_WORD + " " + PREFIX_NAME + "alice";
+        logic.execute(findCommand);
+        logic.execute(findCommand);
+        assertEquals(1, logic.getFindResultCacheHitCount());
+        assertEquals(1, logic.getFindResultCacheMissCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -120,6 +180,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Executes the batch of commands, confirms that the expected exception is thrown with the expected message and
+     * that the address book is unchanged.
+     */
+    private void assertBatchFailure(List<String> commandTexts, Class<?> expectedException,
+                                    String expectedMessage) {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        try {
+            logic.executeBatch(commandTexts);
+            throw new AssertionError("The batch should fail.");
+        } catch (CommandException | ParseException e) {
+            assertEquals(expectedException, e.getClass());
+            assertEquals(expectedMessage, e.getMessage());
+        }
+        assertEquals(expectedModel, model);
+    }
+
     /**
      * Asserts that the result display shows all the {@code expectedCommands} upon the execution of
      * {@code HistoryCommand}.
@@ -134,4 +211,20 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
         }
     }
+
+    /**
+     * Counts the {@code AddressBookChangedEvent}s raised after its creation.
+     */
+    private static class AddressBookChangedEventCounter {
+        private int count;
+
+        AddressBookChangedEventCounter() {
+            EventsCenter.getInstance().registerHandler(this);
+        }
+
+        @Subscribe
+        public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+            count++;
+        }
+    }
 }
@@ -18,6 +18,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.UserPrefs;
 
 public class UndoRedoStackTest {
     private final DummyCommand dummyCommandOne = new DummyCommand();
@@ -84,6 +85,73 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_beyondMaxDepth_oldestCommandEvicted() {
+        undoRedoStack = new UndoRedoStack(2, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_beyondMaxBytes_oldestCommandsEvicted() {
+        undoRedoStack = new UndoRedoStack(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, 100);
+        DummyLargeUndoableCommand largeCommandOne = new DummyLargeUndoableCommand(60);
+        DummyLargeUndoableCommand largeCommandTwo = new DummyLargeUndoableCommand(60);
+        undoRedoStack.push(largeCommandOne);
+        undoRedoStack.push(largeCommandTwo);
+
+        assertEquals(largeCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_singleCommandBeyondMaxBytes_commandKept() {
+        undoRedoStack = new UndoRedoStack(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, 100);
+        DummyLargeUndoableCommand largeCommand = new DummyLargeUndoableCommand(200);
+        undoRedoStack.push(largeCommand);
+
+        assertTrue(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_afterUndoAndRedo_footprintsCountedOnce() {
+        undoRedoStack = new UndoRedoStack(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_DEPTH, 100);
+        DummyLargeUndoableCommand largeCommandOne = new DummyLargeUndoableCommand(60);
+        DummyLargeUndoableCommand smallCommandOne = new DummyLargeUndoableCommand(30);
+        DummyLargeUndoableCommand smallCommandTwo = new DummyLargeUndoableCommand(30);
+
+        // an undone command no longer counts
+        undoRedoStack.push(largeCommandOne);
+        undoRedoStack.popUndo();
+        undoRedoStack.push(smallCommandOne);
+        undoRedoStack.push(smallCommandTwo);
+        assertEquals(smallCommandTwo, undoRedoStack.popUndo());
+        assertEquals(smallCommandOne, undoRedoStack.popUndo());
+
+        // a redone command counts again
+        undoRedoStack.popRedo();
+        undoRedoStack.popRedo();
+        DummyLargeUndoableCommand largeCommandTwo = new DummyLargeUndoableCommand(60);
+        undoRedoStack.push(largeCommandTwo);
+        assertEquals(largeCommandTwo, undoRedoStack.popUndo());
+        assertEquals(smallCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void clear() {
+        undoRedoStack = prepareStack(Collections.singletonList(dummyUndoableCommandOne),
+                Collections.singletonList(dummyUndoableCommandTwo));
+        undoRedoStack.clear();
+        assertStackStatus(Collections.emptyList(), Collections.emptyList());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -244,4 +312,20 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    /**
+     * An undoable command that reports a fixed undo footprint.
+     */
+    class DummyLargeUndoableCommand extends DummyUndoableCommand {
+        private final long footprint;
+
+        DummyLargeUndoableCommand(long footprint) {
+            this.footprint = footprint;
+        }
+
+        @Override
+        public long getUndoFootprint() {
+            return footprint;
+        }
+    }
 }
@@ -7,7 +7,9 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +20,8 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.meeting.Meeting;
@@ -26,6 +30,8 @@ import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.TagNotFoundException;
+import seedu.address.model.person.predicate.KeywordsPredicate;
+import seedu.address.model.search.IndexedKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -117,6 +123,37 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public void applyDelta(AddressBookDelta delta) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void startRecordingChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void startBatchChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void endBatchChanges() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackBatchChanges() {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -147,6 +184,27 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void refineFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListOrder(Comparator<ReadOnlyPerson> comparator) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void limitFilteredPersonList(ToDoubleFunction<? super ReadOnlyPerson> relevance, int limit) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public IndexedKeywordsPredicate getIndexedPredicate(KeywordsPredicate predicate) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         //@@author alexanderleegs
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
@@ -204,6 +262,16 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            return AddressBookDelta.between(AddressBookSnapshot.of(new AddressBook()),
+                    AddressBookSnapshot.of(new AddressBook()));
+        }
     }
 
     /**
@@ -221,6 +289,16 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public void startRecordingChanges() {
+        }
+
+        @Override
+        public AddressBookDelta stopRecordingChanges() {
+            return AddressBookDelta.between(AddressBookSnapshot.of(new AddressBook()),
+                    AddressBookSnapshot.of(new AddressBook()));
+        }
     }
 
 }
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class BatchCommandTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_commandThrowsRuntimeException_batchRolledBackWithoutChangeEvent() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddAliceAndFailCommand()));
+        batchCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+
+        try {
+            batchCommand.execute();
+            fail("The batch should fail.");
+        } catch (IllegalStateException ise) {
+            assertEquals("dummy exception", ise.getMessage());
+        }
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        // the model is no longer in a batch, so later changes are reported at once
+        model.resetData(new AddressBook());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    /**
+     * A command that adds {@code ALICE} and then fails with an unchecked exception.
+     */
+    private static class AddAliceAndFailCommand extends UndoableCommand {
+        @Override
+        protected CommandResult executeUndoableCommand() {
+            try {
+                model.addPerson(ALICE);
+            } catch (DuplicatePersonException dpe) {
+                throw new AssertionError("The address book should be empty.", dpe);
+            }
+            throw new IllegalStateException("dummy exception");
+        }
+    }
+}
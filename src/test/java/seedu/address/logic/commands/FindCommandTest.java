@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.FindCommand.FALSE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -30,9 +31,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Note;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.PhoneContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 //@@author newalter
 /**
@@ -72,6 +75,9 @@ public class FindCommandTest {
 
         // different keyword -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different number of ranked results -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicates, 3)));
     }
 
     @Test
@@ -95,6 +101,28 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ELLE, FIONA));
     }
 
+    @Test
+    public void execute_fuzzyKeywordOnName_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = prepareCommand("n/meyer~");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(ELLE, BENSON, DANIEL));
+    }
+
+    @Test
+    public void execute_rankedKeywordsOnName_mostRelevantPersonsFound() {
+        // "kurz" is rarer than "meier", and equally relevant persons keep their order
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = prepareCommand("n/meier kurz r/2");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, BENSON));
+    }
+
+    @Test
+    public void execute_rankedKeywordsOnName_exactMatchesBeforePrefixMatches() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = prepareCommand("n/al* kurz r/5");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ALICE));
+    }
+
     @Test
     public void execute_multipleKeywordsOnPhone_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
@@ -102,6 +130,13 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE, BENSON));
     }
 
+    @Test
+    public void execute_substringKeywordOnPhone_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = prepareCommand("p/*535*");
+        assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE, CARL));
+    }
+
     @Test
     public void execute_wildcardKeywordOnEmail_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
@@ -109,6 +144,13 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(DANIEL, FIONA, GEORGE));
     }
 
+    @Test
+    public void execute_regexSymbolOnEmail_matchedLiterally() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCommand command = prepareCommand("e/*@example.co.");
+        assertCommandSuccess(command, expectedMessage, Collections.emptyList());
+    }
+
     @Test
     public void execute_oneKeywordOnAddress_onePersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
@@ -137,6 +179,63 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(ALICE));
     }
 
+    @Test
+    public void execute_personEditedAfterFind_filteredListUpdated() throws Exception {
+        prepareCommand("n/meier").execute();
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // still matches after the edit -> stays in the list
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        model.updatePerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), model.getFilteredPersonList());
+
+        // no longer matches after the edit -> leaves the list
+        model.updatePerson(DANIEL, new PersonBuilder(DANIEL).withName("Daniel Muller").build());
+        assertEquals(Collections.singletonList(editedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedPersonEditedAfterFind_rankedAgain() throws Exception {
+        prepareCommand("n/meier kurz r/2").execute();
+        assertEquals(Arrays.asList(CARL, BENSON), model.getFilteredPersonList());
+
+        // a note replaces the person in the address book -> the replacement keeps its rank
+        NoteCommand noteCommand = new NoteCommand(INDEX_SECOND_PERSON, new Note("Likes tea"));
+        noteCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        noteCommand.execute();
+        ReadOnlyPerson notedBenson = new PersonBuilder(BENSON).withNote("Likes tea").build();
+        assertEquals(Arrays.asList(CARL, notedBenson), model.getFilteredPersonList());
+
+        // a ranked person that no longer matches -> the next most relevant person takes its place
+        model.updatePerson(CARL, new PersonBuilder(CARL).withName("Carl Schmidt").build());
+        assertEquals(Arrays.asList(notedBenson, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personAddedAfterRankedFind_leastRelevantPersonLeaves() throws Exception {
+        prepareCommand("n/meier kurz r/2").execute();
+
+        // more relevant than every ranked person -> ranked first, and the least relevant person leaves
+        ReadOnlyPerson hans = new PersonBuilder().withName("Hans Meier Kurz").build();
+        model.addPerson(hans);
+        assertEquals(Arrays.asList(hans, CARL), model.getFilteredPersonList());
+
+        // less relevant than every ranked person -> not shown
+        model.addPerson(new PersonBuilder().withName("Ida Meier").build());
+        assertEquals(Arrays.asList(hans, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_findAfterRankedFind_limitKept() throws Exception {
+        prepareCommand("n/meier r/1").execute();
+        prepareCommand("n/meier").execute();
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+
+        // matches the refined find, but is no more relevant than the shown person -> not shown
+        model.addPerson(new PersonBuilder().withName("Hans Meier").build());
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommand}.
      */
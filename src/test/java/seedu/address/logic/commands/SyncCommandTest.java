@@ -8,7 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.showFirstPersonOnly;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -27,7 +29,10 @@ import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LastUpdated;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.FakeContactsService;
+import seedu.address.testutil.PersonBuilder;
 
 
 //@@author derrickchua
@@ -191,6 +196,170 @@ public class SyncCommandTest {
         assertEquals(aliceAbc.hashCode(), actualAlice.hashCode());
     }
 
+    @Test
+    public void execute_contactsOverManyPages_allContactsImported() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(2000);
+        contacts.addSyntheticContacts(100000);
+
+        prepareCommand(contacts).execute();
+
+        assertEquals(100000, model.getAddressBook().getPersonList().size());
+        assertEquals(50, contacts.getListRequestCount());
+        assertEquals(100000, contacts.getContacts().size());
+    }
+
+    @Test
+    public void execute_localAndGoogleContacts_linkedImportedAndExported() throws Exception {
+        FakeContactsService contacts = new FakeContactsService(2);
+        Person aliceGoogle = contacts.createContact(prepareAliceGoogle());
+        contacts.addContact("Zed Remote", "91234567", "zed@example.com");
+        int localCount = model.getAddressBook().getPersonList().size();
+
+        prepareCommand(contacts).execute();
+
+        // Alice is only linked, Zed is imported and every other local contact is exported
+        List<ReadOnlyPerson> persons = model.getAddressBook().getPersonList();
+        assertEquals(localCount + 1, persons.size());
+        assertEquals(localCount + 1, contacts.getContacts().size());
+        assertEquals(aliceGoogle.getResourceName(), persons.get(0).getId().getValue());
+        persons.forEach(person -> assertFalse(person.getId().getValue().isEmpty()));
+    }
+
+    @Test
+    public void execute_afterFirstSync_onlyChangedContactsListed() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.addSyntheticContacts(1000);
+        prepareCommand(contacts).execute();
+        int listedCount = contacts.getListedContactCount();
+
+        List<Person> googleContacts = contacts.getContacts();
+        contacts.updateContact(googleContacts.get(0).getResourceName(), googleContacts.get(0).clone()
+                .setNames(Collections.singletonList(new Name().setGivenName("Changed Remotely"))), "names");
+        contacts.deleteContact(googleContacts.get(1).getResourceName());
+        contacts.addContact("Zed Remote", "91234567", "zed@example.com");
+
+        prepareCommandWithSyncState(contacts).execute();
+
+        assertEquals(3, contacts.getListedContactCount() - listedCount);
+        List<ReadOnlyPerson> persons = model.getAddressBook().getPersonList();
+        assertEquals(1000, persons.size());
+        assertTrue(persons.stream().anyMatch(person -> person.getName().fullName.equals("Changed Remotely")));
+        assertTrue(persons.stream().anyMatch(person -> person.getName().fullName.equals("Zed Remote")));
+    }
+
+    @Test
+    public void execute_localContactChangedAfterSync_changePushed() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.addSyntheticContacts(10);
+        prepareCommand(contacts).execute();
+
+        ReadOnlyPerson local = model.getAddressBook().getPersonList().get(0);
+        seedu.address.model.person.Person edited = new PersonBuilder(local).withName("Changed Locally").build();
+        edited.setLastUpdated(new LastUpdated(Instant.now().plusSeconds(1).toString()));
+        model.updatePerson(local, edited);
+        int listedCount = contacts.getListedContactCount();
+
+        prepareCommandWithSyncState(contacts).execute();
+
+        assertEquals(listedCount, contacts.getListedContactCount());
+        assertTrue(contacts.getContacts().stream()
+                .anyMatch(person -> person.getNames().get(0).getGivenName().equals("Changed Locally")));
+    }
+
+    @Test
+    public void execute_syncTokenExpired_allContactsSynced() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.addSyntheticContacts(1000);
+        prepareCommand(contacts).execute();
+        int listedCount = contacts.getListedContactCount();
+
+        contacts.expireSyncTokens();
+        contacts.addContact("Zed Remote", "91234567", "zed@example.com");
+        prepareCommandWithSyncState(contacts).execute();
+
+        assertEquals(1001, contacts.getListedContactCount() - listedCount);
+        assertEquals(1001, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_manyLocalContactsChanged_changesPushedInBatches() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(2000);
+        contacts.addSyntheticContacts(5000);
+        prepareCommand(contacts).execute();
+
+        String lastUpdated = Instant.now().plusSeconds(1).toString();
+        for (ReadOnlyPerson local : new ArrayList<>(model.getAddressBook().getPersonList())) {
+            seedu.address.model.person.Person edited = new PersonBuilder(local)
+                    .withName(local.getName().fullName + " Changed").build();
+            edited.setLastUpdated(new LastUpdated(lastUpdated));
+            model.updatePerson(local, edited);
+        }
+        int batchRequestCount = contacts.getBatchRequestCount();
+
+        prepareCommandWithSyncState(contacts).execute();
+
+        // the changed contacts are fetched, then updated, in batches of 1000
+        assertEquals(10, contacts.getBatchRequestCount() - batchRequestCount);
+        assertTrue(contacts.getContacts().stream()
+                .allMatch(person -> person.getNames().get(0).getGivenName().endsWith(" Changed")));
+    }
+
+    @Test
+    public void execute_localChangeNotPushed_pushedByNextSync() throws Exception {
+        model = new ModelManager();
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.addSyntheticContacts(10);
+        prepareCommand(contacts).execute();
+
+        // changed after its Google Contact, but before the Google Contacts added below
+        ReadOnlyPerson local = model.getAddressBook().getPersonList().get(0);
+        seedu.address.model.person.Person edited = new PersonBuilder(local).withName("Changed Locally").build();
+        edited.setLastUpdated(new LastUpdated("2017-11-01T00:00:15Z"));
+        model.updatePerson(local, edited);
+        for (int i = 0; i < 10; i++) {
+            contacts.addContact("Remote " + (char) ('a' + i), String.valueOf(80000000 + i),
+                    "remote" + i + "@example.com");
+        }
+        contacts.rejectContactsNamed("Changed Locally");
+        prepareCommandWithSyncState(contacts).execute();
+        assertFalse(contacts.getContacts().stream()
+                .anyMatch(person -> person.getNames().get(0).getGivenName().equals("Changed Locally")));
+
+        contacts.acceptContactsNamed("Changed Locally");
+        prepareCommandWithSyncState(contacts).execute();
+
+        assertTrue(contacts.getContacts().stream()
+                .anyMatch(person -> person.getNames().get(0).getGivenName().equals("Changed Locally")));
+    }
+
+    @Test
+    public void execute_contactNotCreated_leftUnlinked() throws Exception {
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.rejectContactsNamed("Alice Pauline");
+        int localCount = model.getAddressBook().getPersonList().size();
+
+        prepareCommand(contacts).execute();
+
+        List<ReadOnlyPerson> persons = model.getAddressBook().getPersonList();
+        assertEquals(localCount - 1, contacts.getContacts().size());
+        assertTrue(persons.get(0).getId().getValue().isEmpty());
+        persons.subList(1, persons.size()).forEach(person -> assertFalse(person.getId().getValue().isEmpty()));
+    }
+
+    @Test
+    public void execute_contactsServiceFails_throwsCommandException() {
+        FakeContactsService contacts = new FakeContactsService(100);
+        contacts.makeUnavailable();
+
+        String expectedMessage = String.format(SyncCommand.MESSAGE_FAILURE_SYNC, "Service unavailable");
+        assertCommandFailure(prepareCommand(contacts), model, expectedMessage);
+    }
+
     @Test
     public void equals() {
         SyncCommand syncFirstCommand = new SyncCommand();
@@ -209,6 +378,25 @@ public class SyncCommandTest {
         assertTrue(syncFirstCommand.equals(syncSecondCommand));
     }
 
+    /**
+     * Returns a {@code SyncCommand} that syncs with {@code contacts}, with no contacts synced before.
+     */
+    private SyncCommand prepareCommand(FakeContactsService contacts) {
+        SyncCommand syncCommand = prepareCommandWithSyncState(contacts);
+        syncCommand.saveStatus(new HashSet<String>());
+        syncCommand.saveStatus(null, SyncCommand.SYNC_CHECKPOINT_FILE);
+        return syncCommand;
+    }
+
+    /**
+     * Returns a {@code SyncCommand} that syncs with {@code contacts}, continuing from the last sync.
+     */
+    private SyncCommand prepareCommandWithSyncState(FakeContactsService contacts) {
+        SyncCommand syncCommand = prepareCommand();
+        syncCommand.setContactsService(contacts);
+        return syncCommand;
+    }
+
     /**
      * Returns a {@code SyncCommand}
      */
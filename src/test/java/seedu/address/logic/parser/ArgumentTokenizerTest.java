@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognised() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "SomePreambleString -tag tagValue -t dashT-Value -ta -tag";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTag, "tagValue", "");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "a");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void getCommandWord_aliasOrCommandWord_commandWordOfCommand() {
+        assertEquals(Optional.of(FindCommand.COMMAND_WORD), CommandRegistry.getCommandWord(FindCommand.COMMAND_WORD));
+        assertEquals(Optional.of(FindCommand.COMMAND_WORD), CommandRegistry.getCommandWord(FindCommand.COMMAND_ALIAS));
+        assertFalse(CommandRegistry.getCommandWord("unknownCommand").isPresent());
+    }
+
+    @Test
+    public void getParser_aliasAndCommandWord_sameParser() throws Exception {
+        assertSame(CommandRegistry.getParser(FindCommand.COMMAND_WORD).get(),
+                CommandRegistry.getParser(FindCommand.COMMAND_ALIAS).get());
+        assertTrue(CommandRegistry.getParser(ListCommand.COMMAND_ALIAS).get().parse(" 3") instanceof ListCommand);
+        assertFalse(CommandRegistry.getParser("unknownCommand").isPresent());
+    }
+
+    @Test
+    public void getCommandWords_everyCommandWordRegistered() {
+        for (String commandWord : CommandRegistry.getCommandWords()) {
+            assertEquals(Optional.of(commandWord), CommandRegistry.getCommandWord(commandWord));
+            assertTrue(CommandRegistry.getParser(commandWord).isPresent());
+        }
+        assertFalse(CommandRegistry.getCommandWords().contains(FindCommand.COMMAND_ALIAS));
+    }
+}
@@ -41,6 +41,13 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " m/meeting ",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
 
+        // only the number of results present
+        assertParseFailure(parser, " r/5", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid number of results
+        assertParseFailure(parser, " n/Alice r/0", FindCommand.MESSAGE_INVALID_RESULT_LIMIT);
+        assertParseFailure(parser, " n/Alice r/five", FindCommand.MESSAGE_INVALID_RESULT_LIMIT);
+
     }
 
 
@@ -94,4 +101,13 @@ public class FindCommandParserTest {
 
     }
 
+    @Test
+    public void parse_resultLimitPresent_returnsRankedFindCommand() {
+        ArrayList<Predicate<ReadOnlyPerson>> predicates = new ArrayList<>();
+        predicates.addAll(Arrays.asList(component1, FALSE, FALSE, FALSE, FALSE));
+        FindCommand expectedFindCommand = new FindCommand(predicates, 3);
+        assertParseSuccess(parser, " n/Alice Bob r/3", expectedFindCommand);
+        assertParseSuccess(parser, " r/ 3 n/Alice Bob", expectedFindCommand);
+    }
+
 }
@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDeltaTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void between_sameSnapshot_returnsEmptyDelta() {
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertTrue(AddressBookDelta.between(snapshot, snapshot).isEmpty());
+    }
+
+    @Test
+    public void between_editedPerson_onlyKeepsEditedPerson() throws Exception {
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.snapshot());
+
+        assertFalse(delta.isEmpty());
+        assertEquals(1, delta.getHunks().size());
+        assertEquals(1, delta.getHunks().get(0).removed.size());
+        assertEquals(1, delta.getHunks().get(0).added.size());
+    }
+
+    @Test
+    public void applyDelta_inverse_restoresAddressBook() throws Exception {
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.addPerson(AMY);
+        addressBook.removePerson(ALICE);
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.snapshot());
+        AddressBook expectedAfter = new AddressBook(addressBook);
+
+        addressBook.applyDelta(delta.inverse());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.applyDelta(delta);
+        assertEquals(expectedAfter, addressBook);
+    }
+
+    @Test
+    public void stopRecordingChanges_personsChanged_sameAsDiffOfSnapshots() throws Exception {
+        AddressBookSnapshot before = addressBook.snapshot();
+        addressBook.startRecordingChanges();
+        addressBook.addPerson(AMY);
+        addressBook.removePerson(ALICE);
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+
+        assertEquals(AddressBookDelta.between(before, addressBook.snapshot()), addressBook.stopRecordingChanges());
+    }
+
+    @Test
+    public void stopRecordingChanges_personsSorted_inverseRestoresOrder() throws Exception {
+        addressBook.startRecordingChanges();
+        addressBook.sort("phone");
+        AddressBookDelta delta = addressBook.stopRecordingChanges();
+
+        addressBook.applyDelta(delta.inverse());
+        assertEquals(getTypicalAddressBook().getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void stopRecordingChanges_notRecording_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        addressBook.stopRecordingChanges();
+    }
+
+    @Test
+    public void applyDelta_modifiedAddressBook_throwsStaleDeltaException() throws Exception {
+        AddressBookSnapshot before = addressBook.snapshot();
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withTags("colleague").build();
+        addressBook.updatePerson(BENSON, editedBenson);
+        AddressBookDelta delta = AddressBookDelta.between(before, addressBook.snapshot());
+        addressBook.removePerson(editedBenson);
+
+        thrown.expect(AddressBookDelta.StaleDeltaException.class);
+        addressBook.applyDelta(delta.inverse());
+    }
+}
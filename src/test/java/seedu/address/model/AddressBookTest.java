@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -20,6 +23,7 @@ import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -58,6 +62,52 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void snapshot_unmodifiedAddressBook_returnsSameSnapshot() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = typicalAddressBook.snapshot();
+        assertSame(snapshot, typicalAddressBook.snapshot());
+        assertEquals(typicalAddressBook.getPersonList(), snapshot.getPersonList());
+    }
+
+    @Test
+    public void snapshot_modifiedAddressBook_returnsNewSnapshot() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = typicalAddressBook.snapshot();
+        typicalAddressBook.addPerson(AMY);
+        assertNotSame(snapshot, typicalAddressBook.snapshot());
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+    }
+
+    @Test
+    public void resetData_withSnapshot_restoresData() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = typicalAddressBook.snapshot();
+        typicalAddressBook.addPerson(AMY);
+        typicalAddressBook.removePerson(ALICE);
+        typicalAddressBook.sort("phone");
+
+        typicalAddressBook.resetData(snapshot);
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+    }
+
+    @Test
+    public void resetData_withSnapshotAfterEdit_earlierSnapshotUnchanged() throws Exception {
+        ReadOnlyPerson person = new PersonBuilder().withMeeting("Lunch", "2017-11-11 12:00").build();
+        addressBook.addPerson(person);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        ReadOnlyPerson snapshotPerson = snapshot.getPersonList().get(0);
+
+        addressBook.updatePerson(snapshotPerson, new PersonBuilder(person).withPhone("91234567").build());
+        AddressBookSnapshot editedSnapshot = addressBook.snapshot();
+        addressBook.addPerson(AMY);
+        addressBook.resetData(editedSnapshot);
+
+        for (Meeting meeting : snapshotPerson.getMeetings()) {
+            assertSame(snapshotPerson, meeting.getPerson());
+        }
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonFilterTest {
+
+    @Test
+    public void evaluate_manyPersons_sameAsSerialEvaluation() {
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        Predicate<ReadOnlyPerson> predicate = new NameContainsKeywordsPredicate(Arrays.asList("1*", "*7?"));
+
+        BitSet expected = new BitSet();
+        for (int i = 0; i < persons.size(); i++) {
+            expected.set(i, predicate.test(persons.get(i)));
+        }
+        assertEquals(expected, ParallelPersonFilter.evaluate(persons, predicate, 1));
+    }
+
+    @Test
+    public void evaluate_noPersons_emptyBitmap() {
+        assertEquals(new BitSet(), ParallelPersonFilter.evaluate(Collections.emptyList(), unused -> true));
+    }
+
+    @Test
+    public void evaluate_thresholdReached_sameAsSerialEvaluation() {
+        List<ReadOnlyPerson> persons = getTypicalPersons();
+        Predicate<ReadOnlyPerson> predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice", "meier"));
+
+        BitSet expected = new BitSet();
+        expected.set(0, 2);
+        expected.set(3);
+        assertEquals(expected, ParallelPersonFilter.evaluate(persons, predicate, 1));
+        assertEquals(expected, ParallelPersonFilter.evaluate(persons, predicate, Integer.MAX_VALUE));
+    }
+}
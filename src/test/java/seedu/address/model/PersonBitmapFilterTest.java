@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.predicate.ContainsTagsPredicate;
+import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonSearchIndex;
+
+public class PersonBitmapFilterTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+    private final List<ReadOnlyPerson> persons = getTypicalPersons();
+
+    @Before
+    public void setUp() {
+        persons.forEach(index::add);
+    }
+
+    @Test
+    public void showAll_showsEveryPerson() {
+        PersonBitmapFilter filter = PersonBitmapFilter.showAll(index);
+        persons.forEach(person -> assertTrue(filter.test(person)));
+    }
+
+    @Test
+    public void filter_showsMatchingPersons() {
+        PersonBitmapFilter filter = PersonBitmapFilter.filter(index, persons,
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "meier")));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), filterPersons(filter));
+    }
+
+    @Test
+    public void refine_onlyPersonsShownBeforeAndMatchingRefinement() {
+        PersonBitmapFilter filter = PersonBitmapFilter.filter(index, persons,
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "meier", "carl")));
+        PersonBitmapFilter refinedFilter = filter.refine(filterPersons(filter),
+                new ContainsTagsPredicate(Collections.singletonList("friends")));
+        assertEquals(Arrays.asList(ALICE, BENSON), filterPersons(refinedFilter));
+    }
+
+    @Test
+    public void test_personIndexedLater_testedAgainstPredicates() {
+        PersonBitmapFilter filter = PersonBitmapFilter.filter(index, persons,
+                new NameContainsKeywordsPredicate(Arrays.asList("meier", "mueller")));
+        PersonBitmapFilter refinedFilter = filter.refine(filterPersons(filter),
+                new NameContainsKeywordsPredicate(Arrays.asList("hoon", "daniel")));
+
+        index.add(HOON);
+        index.add(IDA);
+        assertTrue(refinedFilter.test(HOON));
+        assertFalse(refinedFilter.test(IDA));
+    }
+
+    @Test
+    public void test_indexRebuilt_testedAgainstPredicates() {
+        PersonBitmapFilter filter = PersonBitmapFilter.filter(index, persons,
+                new NameContainsKeywordsPredicate(Collections.singletonList("carl")));
+
+        // the rebuilt index gives out the same ordinals to other persons
+        index.clear();
+        Arrays.asList(CARL, ALICE).forEach(index::add);
+        assertTrue(filter.test(CARL));
+        assertFalse(filter.test(ALICE));
+    }
+
+    private List<ReadOnlyPerson> filterPersons(PersonBitmapFilter filter) {
+        return persons.stream().filter(filter).collect(Collectors.toList());
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +26,89 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void contains_equivalentPerson_returnsTrue() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).build()));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new Person(ALICE));
+    }
+
+    @Test
+    public void setPerson_editedPerson_updatesLookup() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(1, uniquePersonList.asObservableList().size());
+    }
+
+    @Test
+    public void setPerson_duplicateEditedPerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, BOB);
+    }
+
+    @Test
+    public void remove_removedPerson_canBeAddedAgain() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_manyPersons_laterPersonsStillFound() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        for (int i = 0; i < 300; i++) {
+            uniquePersonList.add(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        // every removal shifts the persons after it
+        for (int i = 0; i < 300; i += 2) {
+            uniquePersonList.remove(new PersonBuilder().withName("Person " + i).build());
+        }
+        for (int i = 1; i < 300; i += 2) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            uniquePersonList.setPerson(person, new PersonBuilder().withName("Edited " + i).build());
+        }
+
+        assertEquals(150, uniquePersonList.size());
+        for (int i = 0; i < 150; i++) {
+            assertEquals("Edited " + (2 * i + 1), uniquePersonList.asObservableList().get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void sort_sortedPersons_stillFound() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sort("name");
+        uniquePersonList.remove(BOB);
+        assertEquals(ALICE, uniquePersonList.asObservableList().get(0));
+        assertEquals(1, uniquePersonList.size());
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(ALICE);
+    }
 }
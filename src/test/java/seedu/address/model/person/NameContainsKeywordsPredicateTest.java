@@ -62,6 +62,14 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("A*e", "*b"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
         //@@author
+
+        // Fuzzy keyword within the default edit distance
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alcie~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keyword within the given edit distance
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Bbo~2"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -74,6 +82,10 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Fuzzy keyword beyond the given edit distance
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Bbo~1"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
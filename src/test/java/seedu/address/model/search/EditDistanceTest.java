@@ -0,0 +1,18 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class EditDistanceTest {
+
+    @Test
+    public void between() {
+        assertEquals(0, EditDistance.between("alice", "alice"));
+        assertEquals(5, EditDistance.between("", "alice"));
+        assertEquals(1, EditDistance.between("alice", "alce"));
+        assertEquals(2, EditDistance.between("alice", "alicia"));
+        assertEquals(2, EditDistance.between("jonh", "john"));
+        assertEquals(3, EditDistance.between("kitten", "sitting"));
+    }
+}
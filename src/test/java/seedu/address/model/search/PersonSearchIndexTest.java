@@ -0,0 +1,95 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+public class PersonSearchIndexTest {
+
+    private PersonSearchIndex index;
+
+    @Before
+    public void setUp() {
+        index = new PersonSearchIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.add(GEORGE);
+    }
+
+    @Test
+    public void find_exactKeyword_personsWithWord() {
+        assertFound(Arrays.asList(BENSON, DANIEL), SearchField.NAME, "MEIER");
+        assertFound(Collections.singletonList(ALICE), SearchField.EMAIL, "alice@example.com");
+        assertFound(Collections.singletonList(BENSON), SearchField.TAG, "owesmoney");
+    }
+
+    @Test
+    public void find_prefixKeyword_personsWithWordsStartingWithPrefix() {
+        assertFound(Arrays.asList(BENSON, GEORGE), SearchField.NAME, "b*");
+        assertFound(Arrays.asList(ALICE, BENSON, DANIEL, GEORGE), SearchField.NAME, "*");
+    }
+
+    @Test
+    public void find_otherWildcardKeyword_personsWithMatchingWords() {
+        assertFound(Collections.singletonList(BENSON), SearchField.NAME, "b?nson");
+        assertFound(Arrays.asList(DANIEL, GEORGE), SearchField.EMAIL, "*a@example.com");
+    }
+
+    @Test
+    public void find_substringKeyword_personsWithWordsContainingSubstring() {
+        assertFound(Arrays.asList(ALICE, DANIEL), SearchField.PHONE, "*525*");
+        assertFound(Collections.singletonList(BENSON), SearchField.EMAIL, "*hnd@*");
+        assertFound(Arrays.asList(BENSON, DANIEL), SearchField.PHONE, "*87?5*");
+        assertFound(Collections.emptyList(), SearchField.PHONE, "*000*");
+    }
+
+    @Test
+    public void find_regexCharactersInKeyword_matchedLiterally() {
+        assertFound(Collections.emptyList(), SearchField.EMAIL, "alice@example.co.");
+        assertFound(Collections.emptyList(), SearchField.NAME, "al.ce");
+    }
+
+    @Test
+    public void find_multipleKeywords_personsMatchingAnyKeyword() {
+        assertFound(Arrays.asList(ALICE, GEORGE), SearchField.NAME, "alice", "george");
+    }
+
+    @Test
+    public void remove_removedPerson_notFound() {
+        long version = index.getVersion();
+        index.remove(BENSON);
+        assertNotEquals(version, index.getVersion());
+        assertFound(Collections.singletonList(DANIEL), SearchField.NAME, "meier");
+        assertFound(Collections.emptyList(), SearchField.TAG, "owesmoney");
+    }
+
+    @Test
+    public void clear_noPersonsFound() {
+        index.clear();
+        assertTrue(index.find(SearchField.NAME, Collections.singletonList("*")).isEmpty());
+    }
+
+    /**
+     * Asserts that searching {@code field} for {@code keywords} finds exactly {@code expected}.
+     */
+    private void assertFound(List<ReadOnlyPerson> expected, SearchField field, String... keywords) {
+        Set<ReadOnlyPerson> found = index.find(field, Arrays.asList(keywords));
+        assertEquals(new HashSet<>(expected), new HashSet<>(found));
+    }
+}
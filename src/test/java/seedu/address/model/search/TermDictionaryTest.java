@@ -0,0 +1,101 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TermDictionaryTest {
+
+    private static final List<String> WORDS = Arrays.asList("alice", "alex", "al", "bob", "rob", "benson", "jason",
+            "no phone number");
+
+    private TermDictionary dictionary;
+    private TermDictionary reversedDictionary;
+
+    @Before
+    public void setUp() {
+        dictionary = new TermDictionary(false);
+        reversedDictionary = new TermDictionary(true);
+        for (String word : WORDS) {
+            dictionary.add(word);
+            reversedDictionary.add(word);
+        }
+    }
+
+    @Test
+    public void collectMatches_prefixKeyword() {
+        assertMatches("al*", "al", "alex", "alice");
+    }
+
+    @Test
+    public void collectMatches_singleCharacterWildcard() {
+        assertMatches("?ob", "bob", "rob");
+        assertMatches("al??", "alex");
+    }
+
+    @Test
+    public void collectMatches_leadingWildcard() {
+        assertMatches("*son", "benson", "jason");
+        assertMatches("*e*", "alex", "alice", "benson");
+    }
+
+    @Test
+    public void collectMatches_noWildcard_exactWordOnly() {
+        assertMatches("alex", "alex");
+        assertMatches("ale");
+    }
+
+    @Test
+    public void collectMatches_wildcardsDoNotMatchWhitespace() {
+        assertMatches("no*");
+        assertMatches("*number");
+    }
+
+    @Test
+    public void collectWithinDistance_wordsWithinDistance() {
+        Map<String, Integer> distances = new HashMap<>();
+        dictionary.collectWithinDistance("alx", 1, distances);
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("al", 1);
+        expected.put("alex", 1);
+        assertEquals(expected, distances);
+
+        distances.clear();
+        dictionary.collectWithinDistance("bensno", 2, distances);
+        assertEquals(Collections.singletonMap("benson", 2), distances);
+    }
+
+    @Test
+    public void remove_removedWordNotMatched() {
+        dictionary.remove("alex");
+        reversedDictionary.remove("alex");
+        dictionary.remove("al");
+        reversedDictionary.remove("al");
+        assertMatches("al*", "alice");
+    }
+
+    /**
+     * Asserts that both dictionaries match exactly {@code expected} with {@code keyword}.
+     */
+    private void assertMatches(String keyword, String... expected) {
+        List<String> expectedWords = new ArrayList<>(Arrays.asList(expected));
+        Collections.sort(expectedWords);
+        assertEquals(expectedWords, collectSorted(dictionary, keyword));
+        assertEquals(expectedWords, collectSorted(reversedDictionary, keyword));
+    }
+
+    private List<String> collectSorted(TermDictionary termDictionary, String keyword) {
+        List<String> words = new ArrayList<>();
+        termDictionary.collectMatches(keyword, words);
+        Collections.sort(words);
+        return words;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+//@@author newalter
+public class WildcardMatcherTest {
+    @Test
+    public void wildcard_matcherSuccess() {
+        String args = "Fa* *s* G*d a?b";
+        List<String> keywords = WildcardMatcher.processKeywords(Arrays.asList(args.split("\\s+")));
+        List<String> expected = Arrays.asList("fa\\S*", "\\S*s\\S*", "g\\S*d", "a\\Sb");
+        assertEquals(keywords, expected);
+    }
+
+    @Test
+    public void compileKeywords_matchesAnyKeyword() {
+        Pattern keywords = WildcardMatcher.compileKeywords(Arrays.asList("Fa*", "G?d"));
+        assertTrue(keywords.matcher("fancy").matches());
+        assertTrue(keywords.matcher("god").matches());
+        assertFalse(keywords.matcher("goods").matches());
+        assertFalse(keywords.matcher("a fancy").matches());
+    }
+
+    @Test
+    public void processKeywords_regexCharacters_escaped() {
+        List<String> keywords = WildcardMatcher.processKeywords(Arrays.asList("a.b*", "(c)"));
+        assertEquals(Arrays.asList("a\\.b\\S*", "\\(c\\)"), keywords);
+        assertFalse(WildcardMatcher.compileKeywords(Arrays.asList("a.b")).matcher("axb").matches());
+    }
+
+    @Test
+    public void compileKeywords_noKeywords_matchesNothing() {
+        Pattern keywords = WildcardMatcher.compileKeywords(Collections.emptyList());
+        assertFalse(keywords.matcher("").matches());
+        assertFalse(keywords.matcher("anything").matches());
+    }
+
+    @Test
+    public void matchesAnyWord() {
+        Pattern keywords = WildcardMatcher.compileKeywords(Arrays.asList("b?b"));
+        assertTrue(WildcardMatcher.matchesAnyWord(keywords, "Alice  BOB"));
+        assertFalse(WildcardMatcher.matchesAnyWord(keywords, "Alice Bobby"));
+    }
+
+    @Test
+    public void isFuzzy() {
+        assertTrue(WildcardMatcher.isFuzzy("jonh~"));
+        assertTrue(WildcardMatcher.isFuzzy("jonh~2"));
+        assertFalse(WildcardMatcher.isFuzzy("jonh"));
+        assertFalse(WildcardMatcher.isFuzzy("~"));
+        assertFalse(WildcardMatcher.isFuzzy("jonh~3"));
+        assertFalse(WildcardMatcher.isFuzzy("jo*~"));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(1, WildcardMatcher.getMaxEditDistance("jonh~"));
+        assertEquals(2, WildcardMatcher.getMaxEditDistance("jonhatan~"));
+        assertEquals(0, WildcardMatcher.getMaxEditDistance("jonhatan~0"));
+        assertEquals("jonh", WildcardMatcher.getFuzzyWord("JONH~1"));
+    }
+
+    @Test
+    public void null_argFail() {
+        try {
+            WildcardMatcher.processKeywords(null);
+        } catch (Exception e) {
+            assertEquals(e.getClass(), NullPointerException.class);
+        }
+    }
+}
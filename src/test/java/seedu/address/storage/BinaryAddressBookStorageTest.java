@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(getTempFilePath("TempAddressBook.bin")).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        AddressBook original = new AddressBookBuilder(getTypicalAddressBook()).withTag("unused").build();
+        original.addPerson(new PersonBuilder().withName("Meeting Person").withPhone("91234567")
+                .withMeeting("dinner", "2017-12-30 18:00").build());
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        binaryStorage.saveAddressBook(original);
+        assertTrue(isInBinaryFormat(filePath));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addPerson(new Person(HOON));
+        original.removePerson(new Person(ALICE));
+        binaryStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAsXml() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(new File(filePath).toPath());
+        // change the case of the first letter of a name, which still passes validation
+        bytes[indexOf(bytes, ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8))] ^= 0x20;
+        Files.write(new File(filePath).toPath(), bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_newerFormatVersion_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(new File(filePath).toPath());
+        bytes[5] = (byte) (BinaryAddressBookCodec.FORMAT_VERSION + 1);
+        Files.write(new File(filePath).toPath(), bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_countLargerThanFile_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(new File(filePath).toPath());
+        // the number of shared strings, with a checksum to match so that only the count check can catch it
+        ByteBuffer.wrap(bytes).putInt(6, Integer.MAX_VALUE);
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) checksum.getValue());
+        Files.write(new File(filePath).toPath(), bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(new File(filePath).toPath());
+        Files.write(new File(filePath).toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameAddressBook() throws Exception {
+        String xmlFilePath = getTempFilePath("TempAddressBook.xml");
+        String binaryFilePath = getTempFilePath("TempAddressBook.bin");
+        String convertedXmlFilePath = getTempFilePath("Converted.xml");
+        AddressBook original = getTypicalAddressBook();
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(original);
+
+        AddressBookFileConverter.convert(xmlFilePath, binaryFilePath);
+        assertTrue(isInBinaryFormat(binaryFilePath));
+        AddressBookFileConverter.convert(binaryFilePath, convertedXmlFilePath);
+        assertFalse(isInBinaryFormat(convertedXmlFilePath));
+
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(convertedXmlFilePath).readAddressBook()
+                .get()));
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    private int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            int j = 0;
+            while (j < target.length && bytes[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+
+    private boolean isInBinaryFormat(String filePath) throws Exception {
+        byte[] header = new byte[4];
+        try (InputStream in = new FileInputStream(filePath)) {
+            return in.read(header) == header.length && BinaryAddressBookCodec.hasMagic(header);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(getTempFilePath()).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        //First save writes a full snapshot and an empty journal
+        journalStorage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+        assertEquals(1, countJournalLines(filePath));
+
+        //Modify data and save, only the changes are appended to the journal
+        original.addPerson(new Person(HOON));
+        original.removePerson(new Person(ALICE));
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+        journalStorage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+
+        //Save again, without specifying file name
+        original.addPerson(new Person(IDA));
+        original.addTag(new Tag("unused"));
+        journalStorage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingAppended() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        journalStorage.saveAddressBook(original);
+        journalStorage.saveAddressBook(original);
+        assertEquals(1, countJournalLines(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsJournal() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath, 1);
+
+        journalStorage.saveAddressBook(original);
+        original.addPerson(new Person(HOON));
+        journalStorage.saveAddressBook(original);
+        assertEquals(3, countJournalLines(filePath));
+
+        original.addPerson(new Person(IDA));
+        journalStorage.saveAddressBook(original);
+        assertEquals(1, countJournalLines(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotOverwritten_journalIgnored() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        journalStorage.saveAddressBook(original);
+        AddressBook overwritten = new AddressBook(original);
+        original.addPerson(new Person(HOON));
+        journalStorage.saveAddressBook(original);
+
+        new XmlAddressBookStorage(filePath).saveAddressBook(overwritten);
+        assertEquals(overwritten, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_lastRecordIgnored() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        journalStorage.saveAddressBook(original);
+        original.addPerson(new Person(HOON));
+        journalStorage.saveAddressBook(original);
+
+        Files.write(new File(JournalAddressBookStorage.getJournalFilePath(filePath)).toPath(),
+                "{\"type\":\"ADD_PER".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_saveCutShort_wholeSaveIgnored() throws Exception {
+        String filePath = getTempFilePath();
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        journalStorage.saveAddressBook(original);
+        original.addPerson(new Person(HOON));
+        journalStorage.saveAddressBook(original);
+        AddressBook lastCommitted = new AddressBook(original);
+        original.addPerson(new Person(IDA));
+        original.addTag(new Tag("unused"));
+        journalStorage.saveAddressBook(original);
+
+        // drop the commit record and the last change of the save, as if the app crashed while writing them
+        Path journalPath = new File(JournalAddressBookStorage.getJournalFilePath(filePath)).toPath();
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        Files.write(journalPath, lines.subList(0, lines.size() - 2), StandardCharsets.UTF_8);
+        assertEquals(lastCommitted, readWithNewStorage(filePath));
+    }
+
+    private String getTempFilePath() {
+        return testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+    }
+
+    private AddressBook readWithNewStorage(String filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+
+    private long countJournalLines(String filePath) throws Exception {
+        return Files.readAllLines(new File(JournalAddressBookStorage.getJournalFilePath(filePath)).toPath(),
+                StandardCharsets.UTF_8).stream().filter(line -> !line.trim().isEmpty()).count();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
@@ -14,6 +15,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.RestoreBackupDataEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -100,6 +102,80 @@ public class StorageManagerTest {
     }
 
     //@@author
+    @Test
+    public void handleRestoreBackupDataEvent_binaryStorage_backupRestoredInSameFormat() throws Exception {
+        StorageManager storage = new StorageManager(new BinaryAddressBookStorage(getTempFilePath("ab.bin")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook original = getTypicalAddressBook();
+        storage.backupAddressBook(original);
+        assertTrue(storage.getBackupAddressBookFilePath().endsWith("-backup.bin"));
+
+        RestoreBackupDataEvent event = new RestoreBackupDataEvent();
+        storage.handleRestoreBackupDataEvent(event);
+        assertEquals(original, new AddressBook(event.getAddressBookData()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_burstOfChanges_savedOnceAfterFlush() throws Exception {
+        XmlAddressBookStorageCountingStub addressBookStorage =
+                new XmlAddressBookStorageCountingStub(getTempFilePath("ab"));
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage("dummy"),
+                60000, 60000, Runnable::run);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.removePerson(ALICE);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(0, addressBookStorage.saveCount);
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        // nothing left to save
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changedAfterEvent_savesStateWhenSaveIsDue() throws Exception {
+        StorageManager storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage("dummy"), 60000, 60000, Runnable::run);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.removePerson(ALICE);
+
+        storage.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_backgroundSaveFails_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub("dummy"),
+                new JsonUserPrefsStorage("dummy"), 60000, 60000, Runnable::run);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * A Stub class that counts the number of times the address book is saved
+     */
+    class XmlAddressBookStorageCountingStub extends XmlAddressBookStorage {
+        private int saveCount = 0;
+
+        public XmlAddressBookStorageCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
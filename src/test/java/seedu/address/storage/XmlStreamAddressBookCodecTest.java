@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlStreamAddressBookCodecTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/");
+    private static final File VALID_FILE = new File(TEST_DATA_FOLDER + "XmlUtilTest/validAddressBook.xml");
+    private static final File NOT_XML_FILE =
+            new File(TEST_DATA_FOLDER + "XmlAddressBookStorageTest/NotXmlFormatAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamAddressBookCodec.readAddressBook(new File(TEST_DATA_FOLDER + "missing.xml"));
+    }
+
+    @Test
+    public void readAddressBook_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamAddressBookCodec.readAddressBook(NOT_XML_FILE);
+    }
+
+    @Test
+    public void readAddressBook_validFile_validResult() throws Exception {
+        assertEquals(9, XmlStreamAddressBookCodec.readAddressBook(VALID_FILE).getPersonList().size());
+    }
+
+    @Test
+    public void saveAndReadAddressBook_allInOrder_success() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Meeting Person").withPhone("91234567")
+                .withMeeting("dinner", "2017-12-30 18:00").build());
+
+        XmlStreamAddressBookCodec.saveAddressBook(file, original);
+        assertEquals(original, new AddressBook(XmlStreamAddressBookCodec.readAddressBook(file)));
+    }
+
+    @Test
+    public void readAddressBook_fileWrittenByJaxb_sameAddressBook() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = new AddressBookBuilder(getTypicalAddressBook()).withTag("unused").build();
+
+        XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(original));
+        assertEquals(original, new AddressBook(XmlStreamAddressBookCodec.readAddressBook(file)));
+    }
+
+    @Test
+    public void saveAddressBook_readByJaxb_sameAddressBook() throws Exception {
+        File file = testFolder.newFile("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+
+        XmlStreamAddressBookCodec.saveAddressBook(file, original);
+        assertEquals(original, new AddressBook(XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class)));
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.api.services.people.v1.model.EmailAddress;
+import com.google.api.services.people.v1.model.ListConnectionsResponse;
+import com.google.api.services.people.v1.model.Name;
+import com.google.api.services.people.v1.model.Person;
+import com.google.api.services.people.v1.model.PersonMetadata;
+import com.google.api.services.people.v1.model.PhoneNumber;
+import com.google.api.services.people.v1.model.Source;
+
+import seedu.address.google.ContactsService;
+import seedu.address.google.ExpiredSyncTokenException;
+import seedu.address.google.PeopleContactsService;
+
+/**
+ * A stand-in for the Google contacts of a user, kept in memory so that syncing can be tested offline.
+ * Contacts are listed in the order of their resource names, and each page token is the resource name of the last
+ * contact of the page before, so contacts deleted while paging do not make later pages skip contacts.
+ * Every write is given the next version number, and a sync token is the version number it was issued at.
+ * Batches of requests are counted as if they were sent in batch requests of {@code MAX_BATCH_SIZE}, like the People API
+ * service sends them.
+ */
+public class FakeContactsService implements ContactsService {
+
+    private final NavigableMap<String, Person> contacts = new TreeMap<>();
+    // contacts and deleted contacts mapped to the version they were last written at
+    private final NavigableMap<String, Long> versions = new TreeMap<>();
+    private final Set<String> rejectedNames = new HashSet<>();
+    private final int pageSize;
+    private boolean isUnavailable;
+    private Instant clock = Instant.parse("2017-11-01T00:00:00Z");
+    private long version;
+    private long oldestValidSyncToken;
+    private long listingVersion;
+    private int createdCount;
+    private int listRequestCount;
+    private int listedContactCount;
+    private int batchRequestCount;
+
+    public FakeContactsService(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Adds a contact with the given details to the user's contacts, as if it was created in Google Contacts, and
+     * returns it.
+     */
+    public Person addContact(String name, String phone, String email) {
+        Person contact = new Person()
+                .setNames(Collections.singletonList(new Name().setGivenName(name)))
+                .setPhoneNumbers(Collections.singletonList(new PhoneNumber().setValue(phone)))
+                .setEmailAddresses(Collections.singletonList(new EmailAddress().setValue(email)));
+        return createContact(contact);
+    }
+
+    /**
+     * Adds {@code count} contacts with distinct valid details to the user's contacts.
+     */
+    public void addSyntheticContacts(int count) {
+        for (int i = 0; i < count; i++) {
+            addContact("Contact " + i, String.valueOf(90000000 + i), "contact" + i + "@example.com");
+        }
+    }
+
+    /**
+     * Makes every request to create or update a contact with the given name fail.
+     */
+    public void rejectContactsNamed(String name) {
+        rejectedNames.add(name);
+    }
+
+    /**
+     * Stops the requests to create or update a contact with the given name from failing.
+     */
+    public void acceptContactsNamed(String name) {
+        rejectedNames.remove(name);
+    }
+
+    /**
+     * Makes every request to list contacts fail, as if the service could not be reached.
+     */
+    public void makeUnavailable() {
+        isUnavailable = true;
+    }
+
+    /**
+     * Makes every sync token issued so far expire.
+     */
+    public void expireSyncTokens() {
+        oldestValidSyncToken = version + 1;
+    }
+
+    public List<Person> getContacts() {
+        return new ArrayList<>(contacts.values());
+    }
+
+    public int getListRequestCount() {
+        return listRequestCount;
+    }
+
+    /**
+     * Returns the number of batch requests sent to fetch, create, update or delete contacts.
+     */
+    public int getBatchRequestCount() {
+        return batchRequestCount;
+    }
+
+    /**
+     * Returns the number of contacts returned by all list requests, including deleted contacts.
+     */
+    public int getListedContactCount() {
+        return listedContactCount;
+    }
+
+    @Override
+    public ListConnectionsResponse listConnections(String pageToken, String syncToken) throws IOException {
+        listRequestCount++;
+        if (isUnavailable) {
+            throw new IOException("Service unavailable");
+        }
+        long sinceVersion = -1;
+        if (syncToken != null) {
+            sinceVersion = Long.parseLong(syncToken);
+            if (sinceVersion < oldestValidSyncToken) {
+                throw new ExpiredSyncTokenException(null);
+            }
+        }
+        if (pageToken == null) {
+            listingVersion = version;
+        }
+
+        NavigableMap<String, Long> remaining = (pageToken == null) ? versions : versions.tailMap(pageToken, false);
+        List<Person> page = new ArrayList<>();
+        String lastResourceName = null;
+        for (Map.Entry<String, Long> entry : remaining.entrySet()) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            Person contact = contacts.get(entry.getKey());
+            boolean isListed = (syncToken == null) ? contact != null : entry.getValue() > sinceVersion;
+            if (isListed) {
+                page.add(contact == null ? newDeletedContact(entry.getKey()) : contact.clone());
+                lastResourceName = entry.getKey();
+            }
+        }
+        listedContactCount += page.size();
+
+        ListConnectionsResponse response = new ListConnectionsResponse();
+        if (!page.isEmpty()) {
+            response.setConnections(page);
+        }
+        if (page.size() == pageSize && remaining.higherKey(lastResourceName) != null) {
+            response.setNextPageToken(lastResourceName);
+        } else {
+            response.setNextSyncToken(String.valueOf(listingVersion));
+        }
+        return response;
+    }
+
+    @Override
+    public List<Person> getContacts(List<String> resourceNames) {
+        countBatchRequests(resourceNames.size());
+        List<Person> fetchedContacts = new ArrayList<>();
+        for (String resourceName : resourceNames) {
+            Person contact = contacts.get(resourceName);
+            fetchedContacts.add(contact == null ? null : contact.clone());
+        }
+        return fetchedContacts;
+    }
+
+    @Override
+    public List<Person> createContacts(List<Person> contactsToCreate) {
+        countBatchRequests(contactsToCreate.size());
+        List<Person> createdContacts = new ArrayList<>();
+        for (Person contact : contactsToCreate) {
+            createdContacts.add(isRejected(contact) ? null : createContact(contact));
+        }
+        return createdContacts;
+    }
+
+    @Override
+    public List<Person> updateContacts(List<Person> contactsToUpdate, String updatePersonFields) {
+        countBatchRequests(contactsToUpdate.size());
+        List<Person> updatedContacts = new ArrayList<>();
+        for (Person contact : contactsToUpdate) {
+            boolean isUpdated = !isRejected(contact) && contacts.containsKey(contact.getResourceName());
+            updatedContacts.add(isUpdated
+                    ? updateContact(contact.getResourceName(), contact, updatePersonFields)
+                    : null);
+        }
+        return updatedContacts;
+    }
+
+    @Override
+    public List<String> deleteContacts(List<String> resourceNames) {
+        countBatchRequests(resourceNames.size());
+        List<String> deletedResourceNames = new ArrayList<>();
+        for (String resourceName : resourceNames) {
+            boolean isDeleted = contacts.containsKey(resourceName);
+            if (isDeleted) {
+                deleteContact(resourceName);
+            }
+            deletedResourceNames.add(isDeleted ? resourceName : null);
+        }
+        return deletedResourceNames;
+    }
+
+    /**
+     * Creates {@code contact} and returns it as created, as if it was created in Google Contacts.
+     */
+    public Person createContact(Person contact) {
+        String resourceName = String.format("people/c%09d", ++createdCount);
+        Person created = contact.clone().setResourceName(resourceName).setMetadata(newMetadata());
+        write(resourceName, created);
+        return created.clone();
+    }
+
+    /**
+     * Updates the contact with {@code resourceName} with {@code contact} and returns it as updated, as if it was
+     * updated in Google Contacts.
+     */
+    public Person updateContact(String resourceName, Person contact, String updatePersonFields) {
+        Person updated = getExisting(resourceName).clone()
+                .setNames(contact.getNames())
+                .setPhoneNumbers(contact.getPhoneNumbers())
+                .setEmailAddresses(contact.getEmailAddresses())
+                .setAddresses(contact.getAddresses())
+                .setMetadata(newMetadata());
+        write(resourceName, updated);
+        return updated.clone();
+    }
+
+    /**
+     * Deletes the contact with {@code resourceName}, as if it was deleted in Google Contacts.
+     */
+    public void deleteContact(String resourceName) {
+        getExisting(resourceName);
+        write(resourceName, null);
+    }
+
+    private void countBatchRequests(int requestCount) {
+        batchRequestCount += (requestCount + PeopleContactsService.MAX_BATCH_SIZE - 1)
+                / PeopleContactsService.MAX_BATCH_SIZE;
+    }
+
+    private boolean isRejected(Person contact) {
+        return contact.getNames() != null && rejectedNames.contains(contact.getNames().get(0).getGivenName());
+    }
+
+    private Person getExisting(String resourceName) {
+        Person contact = contacts.get(resourceName);
+        if (contact == null) {
+            throw new IllegalArgumentException("No contact " + resourceName);
+        }
+        return contact;
+    }
+
+    /**
+     * Replaces the contact with {@code resourceName} with {@code contact}, or deletes it if {@code contact} is null.
+     */
+    private void write(String resourceName, Person contact) {
+        if (contact == null) {
+            contacts.remove(resourceName);
+        } else {
+            contacts.put(resourceName, contact);
+        }
+        versions.put(resourceName, ++version);
+    }
+
+    /**
+     * Returns the metadata of a contact written now, where every write happens one second after the last.
+     */
+    private PersonMetadata newMetadata() {
+        clock = clock.plusSeconds(1);
+        return new PersonMetadata().setSources(Collections.singletonList(new Source().setUpdateTime(clock.toString())));
+    }
+
+    private static Person newDeletedContact(String resourceName) {
+        return new Person().setResourceName(resourceName).setMetadata(new PersonMetadata().setDeleted(true));
+    }
+}